@@ -0,0 +1,184 @@
+package framework.auth;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import framework.server.Fixtures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+/**
+ * Logs in once per role and hands out contexts that start already signed in.
+ * <pre>
+ *   StorageStateCache sessions = StorageStateCache.shared()
+ *           .role("admin", page -&gt; { page.navigate(loginUrl); ...; page.waitForURL(url -&gt; url.contains("/secure")); });
+ *   BrowserContext admin = sessions.newContext(browser, "admin");
+ * </pre>
+ * The first request for a role runs its login in a throw-away context and stores
+ * {@link BrowserContext#storageState()} (cookies and localStorage, compact JSON) as
+ * {@code <store>/<environment>/<role>.json}. Later contexts are created with
+ * {@code setStorageStatePath}, in this JVM and in later runs, until the file is older than the
+ * TTL or one of its cookies has expired.
+ * <p>
+ * localStorage origins are saved as the remote origins ({@link Fixtures#remoteUrl}) and mapped to
+ * this run's fixture ports when a context is created, since the fixture server's ports change
+ * every run. Cookies need no mapping: browsers scope them by domain, not port.
+ * <p>
+ * The environment defaults to {@code local} or {@code remote} following {@link Fixtures}, override
+ * with {@code -Dpw.env}. {@code -Dpw.auth.ttlMinutes} sets the shared cache's TTL (default 30).
+ */
+public class StorageStateCache {
+
+    private static final Logger logger = Logger.getLogger(StorageStateCache.class.getName());
+
+    private static final StorageStateCache SHARED = new StorageStateCache(Paths.get(".auth-cache"),
+            Duration.ofMinutes(Long.getLong("pw.auth.ttlMinutes", 30)));
+
+    private final Path store;
+    private final Duration ttl;
+    private final Map<String, Consumer<Page>> logins = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    public StorageStateCache(Path store, Duration ttl) {
+        this.store = store;
+        this.ttl = ttl;
+    }
+
+    public static StorageStateCache shared() {
+        return SHARED;
+    }
+
+    public static String environment() {
+        return System.getProperty("pw.env", Fixtures.local() ? "local" : "remote");
+    }
+
+    /**
+     * Register how a role logs in. The login must leave the page signed in before returning.
+     */
+    public StorageStateCache role(String role, Consumer<Page> login) {
+        logins.put(role, login);
+        return this;
+    }
+
+    public BrowserContext newContext(Browser browser, String role) {
+        return newContext(browser, role, new Browser.NewContextOptions());
+    }
+
+    /**
+     * A new context with the role's session; other options are kept as given.
+     */
+    public BrowserContext newContext(Browser browser, String role, Browser.NewContextOptions options) {
+        Path file = statePath(browser, role);
+        try {
+            JsonObject state = JsonParser.parseString(Files.readString(file)).getAsJsonObject();
+            rewriteOrigins(state, origin -> stripSlash(Fixtures.url(origin)));
+            return browser.newContext(options.setStorageState(state.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read session of role " + role, e);
+        }
+    }
+
+    /**
+     * The role's saved storage state, logging in first when there is no fresh one. Its origins are
+     * the remote ones; {@link #newContext} maps them to this run.
+     */
+    public Path statePath(Browser browser, String role) {
+        Path file = file(role);
+        synchronized (locks.computeIfAbsent(role, r -> new Object())) {
+            if (!isFresh(file)) {
+                login(browser, role, file);
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Drop the role's saved state, e.g. after a test logged it out server-side.
+     */
+    public void invalidate(String role) {
+        try {
+            Files.deleteIfExists(file(role));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path file(String role) {
+        return store.resolve(environment()).resolve(role + ".json");
+    }
+
+    private void login(Browser browser, String role, Path file) {
+        Consumer<Page> login = logins.get(role);
+        if (login == null) {
+            throw new IllegalArgumentException("No login registered for role: " + role);
+        }
+        long start = System.nanoTime();
+        BrowserContext context = browser.newContext();
+        try {
+            login.accept(context.newPage());
+            JsonObject parsed = JsonParser.parseString(context.storageState()).getAsJsonObject();
+            rewriteOrigins(parsed, origin -> stripSlash(Fixtures.remoteUrl(origin)));
+            String state = parsed.toString();
+            Files.createDirectories(file.getParent());
+            Path part = file.resolveSibling(file.getFileName() + ".part");
+            Files.writeString(part, state, StandardCharsets.UTF_8);
+            Files.move(part, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not save session of role " + role, e);
+        } finally {
+            context.close();
+        }
+        logger.info("🔑 Logged in as " + role + " (" + environment() + ") in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms, session cached at " + file);
+    }
+
+    private static void rewriteOrigins(JsonObject state, UnaryOperator<String> mapping) {
+        if (!state.has("origins")) {
+            return;
+        }
+        for (JsonElement origin : state.getAsJsonArray("origins")) {
+            JsonObject entry = origin.getAsJsonObject();
+            entry.addProperty("origin", mapping.apply(entry.get("origin").getAsString()));
+        }
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private boolean isFresh(Path file) {
+        try {
+            if (!Files.exists(file)
+                    || Files.getLastModifiedTime(file).toMillis() + ttl.toMillis() < System.currentTimeMillis()) {
+                return false;
+            }
+            JsonObject state = JsonParser.parseString(Files.readString(file)).getAsJsonObject();
+            double now = System.currentTimeMillis() / 1000.0;
+            for (JsonElement cookie : state.getAsJsonArray("cookies")) {
+                double expires = cookie.getAsJsonObject().get("expires").getAsDouble();
+                if (expires > 0 && expires < now) {
+                    return false;   // -1 marks a session cookie, which never expires on its own
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("⚠️ Ignoring unreadable session file " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package framework.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import framework.telemetry.ProcessMemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Keeps a long-lived browser healthy for suites that share one browser across all their tests.
+ * <p>
+ * - Disconnects ({@code Browser.onDisconnected}) and renderer crashes ({@code Page.onCrash}) are
+ *   recorded as they happen; the next {@link #browser()} or {@link #newContext} call relaunches a
+ *   dead browser instead of letting every later test run into timeouts
+ * - Recycling: after {@code maxUses} contexts, or once the monitored browser's RSS exceeds
+ *   {@code maxRssMb}, {@link #browser()} replaces the browser. It is a checkpoint to call between
+ *   tests: {@link #beforeRecycle} hooks first release idle contexts (a {@code ContextPool}'s warm
+ *   ones), and the browser is only replaced if none are left open
+ * - RSS is attributed by process: the browser processes that appeared during the launch, plus
+ *   everything they spawn later ({@link ProcessMemory#newBrowserRoots}). Other browsers of the JVM
+ *   (other pools, {@code run-server} browsers) do not count. A browser launched elsewhere (a remote
+ *   endpoint) has no local processes and is only recycled by use count
+ * - {@link #run(Function)} runs an action in a fresh context and retries it once on a fresh
+ *   context (and browser, if needed) when it failed because of a crash or disconnect
+ * <p>
+ * Crashes are only seen in contexts the monitor knows: those from {@link #newContext}, and those
+ * created elsewhere and passed to {@link #watch} (e.g. as a {@code ContextPool}'s create hook).
+ * <p>
+ * Contexts from {@link #newContext} belong to the test that opened them: call
+ * {@link #closeContexts()} after each test, so a test that failed before closing its contexts
+ * does not keep the browser from being recycled for the rest of the run.
+ * <p>
+ * Confined to the thread that owns the browser, like the browser itself. Code holding on to the
+ * old browser (e.g. a {@code ContextPool}) is told about replacements through {@link #onRelaunch}.
+ */
+public class BrowserHealthMonitor implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(BrowserHealthMonitor.class.getName());
+
+    private final Supplier<Browser> launcher;
+    private final int maxUses;
+    private final long maxRssBytes;
+    private final List<Consumer<Browser>> relaunchListeners = new ArrayList<>();
+    private final List<Runnable> idleReleasers = new ArrayList<>();
+    private final Set<BrowserContext> opened = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Browser browser;
+    private Set<Long> browserProcesses = Set.of();
+    private int uses;
+    private volatile boolean disconnected;
+    private volatile boolean crashed;
+
+    private int launches;
+    private int recycles;
+    private int disconnects;
+    private int crashes;
+    private int retries;
+
+    public record Stats(int launches, int recycles, int disconnects, int crashes, int retries) {
+    }
+
+    /**
+     * @param maxUses  contexts opened on one browser (through {@link #newContext} or {@link #watch}) before recycling
+     * @param maxRssMb memory of the monitored browser's processes before recycling; 0 disables the memory check
+     */
+    public BrowserHealthMonitor(Supplier<Browser> launcher, int maxUses, long maxRssMb) {
+        if (maxUses < 1 || maxRssMb < 0) {
+            throw new IllegalArgumentException("maxUses must be at least 1 and maxRssMb not negative");
+        }
+        this.launcher = launcher;
+        this.maxUses = maxUses;
+        this.maxRssBytes = maxRssMb * 1024 * 1024;
+    }
+
+    /**
+     * Called with the new browser after every relaunch or recycle (not for the first launch).
+     */
+    public BrowserHealthMonitor onRelaunch(Consumer<Browser> listener) {
+        relaunchListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Called when a recycle is due, before checking for open contexts: release contexts that are
+     * open but idle, such as a {@code ContextPool}'s warm ones.
+     */
+    public BrowserHealthMonitor beforeRecycle(Runnable releaseIdle) {
+        idleReleasers.add(releaseIdle);
+        return this;
+    }
+
+    /**
+     * Checkpoint between tests: a connected browser, relaunched or recycled first when needed.
+     */
+    public Browser browser() {
+        ensureConnected();
+        if (recycleDue()) {
+            idleReleasers.forEach(Runnable::run);
+            if (browser.contexts().isEmpty()) {
+                recycles++;
+                logger.info("♻️ Recycling browser after " + uses + " contexts");
+                replace();
+            } else {
+                logger.fine("Recycle due, but " + browser.contexts().size() + " contexts are still open");
+            }
+        }
+        return browser;
+    }
+
+    public BrowserContext newContext() {
+        return newContext(new Browser.NewContextOptions());
+    }
+
+    /**
+     * A context on the current browser (relaunched if it died) whose pages are watched for
+     * renderer crashes. Never recycles: the caller may hold other contexts of this browser.
+     */
+    public BrowserContext newContext(Browser.NewContextOptions options) {
+        return newContext(b -> b.newContext(options));
+    }
+
+    /**
+     * Like {@link #newContext(Browser.NewContextOptions)}, for contexts some other factory opens on
+     * the current browser (e.g. {@code b -> sessions.newContext(b, "admin")}).
+     */
+    public BrowserContext newContext(Function<Browser, BrowserContext> factory) {
+        ensureConnected();
+        BrowserContext context = watch(factory.apply(browser));
+        opened.add(context);
+        context.onClose(opened::remove);
+        return context;
+    }
+
+    /**
+     * Close every context from {@link #newContext} that is still open. Call after each test.
+     */
+    public void closeContexts() {
+        List<BrowserContext> open = new ArrayList<>(opened);
+        opened.clear();
+        open.forEach(BrowserHealthMonitor::closeQuietly);
+    }
+
+    /**
+     * Watch a context created elsewhere for renderer crashes; it counts towards {@code maxUses}.
+     */
+    public BrowserContext watch(BrowserContext context) {
+        uses++;
+        context.pages().forEach(this::watchPage);
+        context.onPage(this::watchPage);
+        return context;
+    }
+
+    /**
+     * Run the action in a fresh context; if it fails because the page crashed or the browser went
+     * away, run it once more on a healthy browser. Other failures are rethrown as they are.
+     */
+    public <T> T run(Function<BrowserContext, T> action) {
+        for (int attempt = 0; ; attempt++) {
+            crashed = false;
+            BrowserContext context = newContext();
+            try {
+                return action.apply(context);
+            } catch (RuntimeException e) {
+                boolean recoverable = crashed || disconnected || !browser.isConnected();
+                if (!recoverable || attempt >= 1) {
+                    throw e;
+                }
+                retries++;
+                logger.warning("🔁 Retrying after " + (crashed ? "renderer crash" : "browser disconnect")
+                        + ": " + e.getMessage());
+            } finally {
+                closeQuietly(context);
+            }
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(launches, recycles, disconnects, crashes, retries);
+    }
+
+    @Override
+    public void close() {
+        opened.clear();
+        if (browser != null) {
+            Browser closing = browser;
+            browser = null;
+            closeQuietly(closing);
+        }
+        logger.info("Browser health: " + stats());
+    }
+
+    private void ensureConnected() {
+        if (browser == null) {
+            launch();
+        } else if (disconnected || !browser.isConnected()) {
+            logger.warning("💥 Browser disconnected, relaunching");
+            replace();
+        }
+    }
+
+    private boolean recycleDue() {
+        return uses >= maxUses || (maxRssBytes > 0 && ProcessMemory.treeRssBytes(browserProcesses) > maxRssBytes);
+    }
+
+    private void replace() {
+        Browser old = browser;
+        launch();
+        closeQuietly(old);   // after launch: its disconnect event no longer refers to the current browser
+        relaunchListeners.forEach(listener -> listener.accept(browser));
+    }
+
+    private void launch() {
+        Set<Long> before = maxRssBytes > 0 ? ProcessMemory.browserPids() : Set.of();
+        Browser launched = launcher.get();
+        browserProcesses = maxRssBytes > 0 ? ProcessMemory.newBrowserRoots(before) : Set.of();
+        launched.onDisconnected(b -> {
+            if (b == browser) {
+                disconnected = true;
+                disconnects++;
+            }
+        });
+        browser = launched;
+        disconnected = false;
+        uses = 0;
+        launches++;
+    }
+
+    private void watchPage(Page page) {
+        page.onCrash(p -> {
+            crashed = true;
+            crashes++;
+            logger.warning("💥 Renderer crashed: " + p.url());
+        });
+    }
+
+    private static void closeQuietly(Browser browser) {
+        try {
+            browser.close();
+        } catch (PlaywrightException ignored) {
+            // already gone
+        }
+    }
+
+    private static void closeQuietly(BrowserContext context) {
+        try {
+            context.close();
+        } catch (PlaywrightException ignored) {
+            // browser went away with it
+        }
+    }
+}
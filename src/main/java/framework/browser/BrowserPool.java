@@ -0,0 +1,195 @@
+package framework.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import framework.config.ExecutionMode;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Pool of warm browsers keyed by their effective launch options.
+ * <p>
+ * Usage mirrors the plain launch/close pattern used across the practice suites:
+ * <pre>
+ *   Browser browser = pool.acquire(playwright.chromium(), options);   // instead of launch(options)
+ *   try {
+ *       ...
+ *   } finally {
+ *       pool.release(browser);                                       // instead of browser.close()
+ *   }
+ * </pre>
+ * Release in a {@code finally}: a browser a failed test never gives back stays leased for good and
+ * counts against {@code maxBrowsers}.
+ * - Released browsers stay open and are handed to the next caller with the same {@link LaunchKey}
+ * - At most {@code maxBrowsers} browsers are alive at once; when the cap is reached the
+ *   least recently used idle browser is closed to make room
+ * - Browsers idle for longer than {@code idleTimeout} are closed on the next pool operation
+ * <p>
+ * Playwright objects are not thread-safe, so a pool belongs to the thread that owns its
+ * {@link Playwright} instance. It does not start background threads of its own. Suites use the
+ * thread's pool from {@link PlaywrightRegistry#browserPool()}, which lives for the whole run.
+ */
+public class BrowserPool implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(BrowserPool.class.getName());
+
+    private final Playwright playwright;
+    private final int maxBrowsers;
+    private final Duration idleTimeout;
+
+    private final Map<LaunchKey, Deque<IdleBrowser>> idle = new HashMap<>();
+    private final Map<Browser, LaunchKey> leased = new IdentityHashMap<>();
+    private int launches;
+    private int reuses;
+
+    public BrowserPool(Playwright playwright) {
+        this(playwright, 4, Duration.ofMinutes(2));
+    }
+
+    public BrowserPool(Playwright playwright, int maxBrowsers, Duration idleTimeout) {
+        if (maxBrowsers < 1) {
+            throw new IllegalArgumentException("maxBrowsers must be at least 1 but was " + maxBrowsers);
+        }
+        this.playwright = playwright;
+        this.maxBrowsers = maxBrowsers;
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Playwright playwright() {
+        return playwright;
+    }
+
+    /**
+     * Borrow a browser launched with the given options, reusing an idle one when possible.
+     */
+    public Browser acquire(BrowserType type, BrowserType.LaunchOptions options) {
+        options = ExecutionMode.current().apply(options);
+        evictIdle();
+        LaunchKey key = LaunchKey.of(type, options);
+
+        Deque<IdleBrowser> candidates = idle.get(key);
+        while (candidates != null && !candidates.isEmpty()) {
+            Browser browser = candidates.pollFirst().browser();
+            if (browser.isConnected()) {
+                leased.put(browser, key);
+                reuses++;
+                return browser;
+            }
+        }
+
+        makeRoom();
+        Browser browser = type.launch(options);
+        leased.put(browser, key);
+        launches++;
+        logger.fine("Launched " + key.browserType() + " for " + key + " (" + size() + "/" + maxBrowsers + " alive)");
+        return browser;
+    }
+
+    /**
+     * Shortcut for the Chromium launches used by most suites.
+     */
+    public Browser acquire(BrowserType.LaunchOptions options) {
+        return acquire(playwright.chromium(), options);
+    }
+
+    /**
+     * Return a browser to the pool. Contexts left open by the test are closed so the
+     * next borrower starts from a clean browser.
+     */
+    public void release(Browser browser) {
+        LaunchKey key = leased.remove(browser);
+        if (key == null) {
+            throw new IllegalArgumentException("Browser was not acquired from this pool");
+        }
+        if (!browser.isConnected()) {
+            return;
+        }
+        for (BrowserContext context : browser.contexts()) {
+            context.close();
+        }
+        idle.computeIfAbsent(key, k -> new ArrayDeque<>()).addFirst(new IdleBrowser(browser, System.nanoTime()));
+        evictIdle();
+    }
+
+    /**
+     * Close browsers that have been idle for longer than the configured timeout.
+     */
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - idleTimeout.toNanos();
+        for (Iterator<Deque<IdleBrowser>> it = idle.values().iterator(); it.hasNext(); ) {
+            Deque<IdleBrowser> browsers = it.next();
+            browsers.removeIf(entry -> {
+                if (entry.idleSince() - cutoff <= 0) {
+                    closeQuietly(entry.browser());
+                    return true;
+                }
+                return false;
+            });
+            if (browsers.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    public int size() {
+        int count = leased.size();
+        for (Deque<IdleBrowser> browsers : idle.values()) {
+            count += browsers.size();
+        }
+        return count;
+    }
+
+    public String stats() {
+        return "launches=" + launches + ", reuses=" + reuses + ", alive=" + size() + ", leased=" + leased.size();
+    }
+
+    @Override
+    public void close() {
+        for (Deque<IdleBrowser> browsers : idle.values()) {
+            browsers.forEach(entry -> closeQuietly(entry.browser()));
+        }
+        idle.clear();
+        leased.keySet().forEach(BrowserPool::closeQuietly);
+        leased.clear();
+        logger.info("Browser pool closed (" + stats() + ")");
+    }
+
+    private void makeRoom() {
+        while (size() >= maxBrowsers) {
+            IdleBrowser oldest = null;
+            Deque<IdleBrowser> owner = null;
+            for (Deque<IdleBrowser> browsers : idle.values()) {
+                IdleBrowser last = browsers.peekLast();
+                if (last != null && (oldest == null || last.idleSince() < oldest.idleSince())) {
+                    oldest = last;
+                    owner = browsers;
+                }
+            }
+            if (oldest == null) {
+                throw new IllegalStateException("Browser pool exhausted: all " + maxBrowsers + " browsers are leased");
+            }
+            owner.pollLast();
+            closeQuietly(oldest.browser());
+        }
+    }
+
+    private static void closeQuietly(Browser browser) {
+        try {
+            browser.close();
+        } catch (RuntimeException e) {
+            logger.warning("Failed to close pooled browser: " + e.getMessage());
+        }
+    }
+
+    private record IdleBrowser(Browser browser, long idleSince) {
+    }
+}
@@ -0,0 +1,65 @@
+package framework.browser;
+
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.options.Proxy;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Identity of a launched browser as far as pooling is concerned.
+ * Two launches with equal keys produce interchangeable browsers, so a pooled
+ * instance can be handed to any caller asking for the same key.
+ * <p>
+ * Every option that changes the launched process is part of the key: binary, arguments,
+ * environment, proxy, sandbox, preferences and output directories. Options that only matter
+ * while launching (timeout, signal handling) are left out.
+ */
+public record LaunchKey(String browserType,
+                        String channel,
+                        Path executablePath,
+                        boolean headless,
+                        List<String> args,
+                        List<String> ignoreDefaultArgs,
+                        boolean ignoreAllDefaultArgs,
+                        boolean chromiumSandbox,
+                        Map<String, String> env,
+                        Map<String, Object> firefoxUserPrefs,
+                        String proxy,
+                        Path downloadsPath,
+                        Path tracesDir,
+                        double slowMo) {
+
+    public static LaunchKey of(BrowserType type, BrowserType.LaunchOptions options) {
+        BrowserType.LaunchOptions effective = options != null ? options : new BrowserType.LaunchOptions();
+        return new LaunchKey(
+                type.name(),
+                effective.channel,
+                normalize(effective.executablePath),
+                effective.headless == null || effective.headless,   // Playwright default is headless
+                effective.args == null ? List.of() : List.copyOf(effective.args),
+                effective.ignoreDefaultArgs == null ? List.of() : List.copyOf(effective.ignoreDefaultArgs),
+                Boolean.TRUE.equals(effective.ignoreAllDefaultArgs),
+                Boolean.TRUE.equals(effective.chromiumSandbox),
+                effective.env == null ? Map.of() : Map.copyOf(effective.env),
+                effective.firefoxUserPrefs == null ? Map.of() : Map.copyOf(effective.firefoxUserPrefs),
+                proxy(effective.proxy),
+                normalize(effective.downloadsPath),
+                normalize(effective.tracesDir),
+                effective.slowMo == null ? 0 : effective.slowMo);
+    }
+
+    private static Path normalize(Path path) {
+        return path == null ? null : path.toAbsolutePath().normalize();
+    }
+
+    // The password only as a hash, keys end up in log messages
+    private static String proxy(Proxy proxy) {
+        if (proxy == null) {
+            return null;
+        }
+        return proxy.server + ";bypass=" + proxy.bypass + ";user=" + proxy.username
+                + ";password#" + (proxy.password == null ? 0 : proxy.password.hashCode());
+    }
+}
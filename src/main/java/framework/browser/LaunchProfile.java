@@ -0,0 +1,86 @@
+package framework.browser;
+
+import com.microsoft.playwright.BrowserType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Named Chromium launch configurations, so suites stop repeating hand-written arg lists.
+ * <pre>
+ *   browserPool.acquire(LaunchProfile.CI.options());
+ *   browserPool.acquire(LaunchProfile.INTERACTIVE.options("--window-size=1280,720"));
+ * </pre>
+ * Startup time and browser RSS per profile are measured by {@code benchmarks.LaunchProfileHarness};
+ * rerun it before adding flags here. Playwright already passes part of the background-service
+ * switches on its own; listing them keeps the profile explicit when the driver's defaults change.
+ */
+public enum LaunchProfile {
+
+    /** Playwright's defaults, headless. */
+    DEFAULT(true),
+
+    /** Headed browser for watching a run locally. */
+    INTERACTIVE(false,
+            "--disable-notifications"),
+
+    /** Containers: no sandbox, no GPU, no /dev/shm. */
+    CI(true,
+            "--no-sandbox",
+            "--disable-setuid-sandbox",
+            "--disable-gpu",
+            "--disable-dev-shm-usage",
+            "--disable-extensions"),
+
+    /** CI plus every background service and throttle that costs startup time or memory. */
+    FAST_HEADLESS(true,
+            "--no-sandbox",
+            "--disable-setuid-sandbox",
+            "--disable-gpu",
+            "--disable-dev-shm-usage",
+            "--disable-extensions",
+            "--disable-background-networking",
+            "--disable-background-timer-throttling",
+            "--disable-backgrounding-occluded-windows",
+            "--disable-renderer-backgrounding",
+            "--disable-component-update",
+            "--disable-sync",
+            "--disable-default-apps",
+            "--disable-breakpad",
+            "--disable-client-side-phishing-detection",
+            "--disable-domain-reliability",
+            "--disable-features=Translate,OptimizationHints,MediaRouter",
+            "--metrics-recording-only",
+            "--mute-audio",
+            "--no-first-run",
+            "--password-store=basic",
+            "--use-mock-keychain");
+
+    private final boolean headless;
+    private final List<String> args;
+
+    LaunchProfile(boolean headless, String... args) {
+        this.headless = headless;
+        this.args = List.of(args);
+    }
+
+    public boolean headless() {
+        return headless;
+    }
+
+    public List<String> args() {
+        return args;
+    }
+
+    /**
+     * Fresh launch options for this profile, with {@code extraArgs} appended.
+     */
+    public BrowserType.LaunchOptions options(String... extraArgs) {
+        List<String> all = new ArrayList<>(args);
+        all.addAll(Arrays.asList(extraArgs));
+        return new BrowserType.LaunchOptions()
+                .setHeadless(headless)
+                .setArgs(all);
+    }
+}
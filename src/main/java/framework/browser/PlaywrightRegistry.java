@@ -0,0 +1,96 @@
+package framework.browser;
+
+import com.microsoft.playwright.Playwright;
+import framework.telemetry.TelemetryCollector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+/**
+ * One {@link Playwright} (one Node driver process) per thread for the whole JVM, instead of one
+ * per test class or test method.
+ * <p>
+ * Playwright objects are not thread-safe, so the instance is thread-confined: each thread that
+ * calls {@link #get()} gets its own, created on first use and reused by every later suite running
+ * on that thread. Suites must not close it; all instances are closed by a shutdown hook when the
+ * JVM exits.
+ * <p>
+ * The same goes for the thread's {@link BrowserPool} ({@link #browserPool()}): one pool on top of
+ * the thread's Playwright for the whole run, so suites launching with equal options share warm
+ * browsers. It is closed by the same shutdown hook, before the drivers.
+ * <p>
+ * The instances are instrumented for {@link TelemetryCollector}, so page loads of every suite are
+ * sampled without per-suite code.
+ * <p>
+ * Short-lived worker threads (the parallel executors) keep creating their own Playwright, since
+ * a per-thread instance would outlive the thread.
+ */
+public final class PlaywrightRegistry {
+
+    private static final Logger logger = Logger.getLogger(PlaywrightRegistry.class.getName());
+
+    private static final List<Playwright> ALL = new CopyOnWriteArrayList<>();
+    private static final List<BrowserPool> POOLS = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Playwright> CURRENT = ThreadLocal.withInitial(PlaywrightRegistry::create);
+    private static final ThreadLocal<BrowserPool> POOL = ThreadLocal.withInitial(PlaywrightRegistry::createPool);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PlaywrightRegistry::closeAll, "playwright-registry-shutdown"));
+    }
+
+    private PlaywrightRegistry() {
+    }
+
+    public static Playwright get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * The browser pool of this thread, shared by every suite running on it. Suites must not close it.
+     */
+    public static BrowserPool browserPool() {
+        return POOL.get();
+    }
+
+    /**
+     * Number of driver processes started so far in this JVM.
+     */
+    public static int size() {
+        return ALL.size();
+    }
+
+    private static Playwright create() {
+        long start = System.nanoTime();
+        Playwright playwright = TelemetryCollector.forRun().instrument(Playwright.create());
+        ALL.add(playwright);
+        logger.fine("Started Playwright driver for " + Thread.currentThread().getName() + " in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms (" + ALL.size() + " in this JVM)");
+        return playwright;
+    }
+
+    private static BrowserPool createPool() {
+        BrowserPool pool = new BrowserPool(get());
+        POOLS.add(pool);
+        return pool;
+    }
+
+    private static void closeAll() {
+        for (BrowserPool pool : POOLS) {
+            try {
+                pool.close();
+            } catch (RuntimeException e) {
+                // browsers go away with their driver below
+            }
+        }
+        POOLS.clear();
+        for (Playwright playwright : ALL) {
+            try {
+                playwright.close();
+            } catch (RuntimeException e) {
+                // driver already gone, nothing left to release
+            }
+        }
+        ALL.clear();
+    }
+}
@@ -0,0 +1,76 @@
+package framework.config;
+
+import com.microsoft.playwright.BrowserType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+
+/**
+ * How browsers are launched in this run, whatever the suite's launch options say.
+ * <p>
+ * - {@link #THROUGHPUT} (default): headless and no slowMo, so runners need no display server and
+ *   spend no CPU on painting windows
+ * - {@link #DEBUG}: launch options are used as written, headed where a suite asks for it
+ * <p>
+ * Pick per run with {@code -Dpw.mode=debug} or the {@code PW_MODE} environment variable; the
+ * system property wins. {@code BrowserPool}, the parallel executors and {@code CrossBrowserRunner}
+ * apply the mode themselves; direct {@code launch} calls go through {@link #apply}.
+ */
+public enum ExecutionMode {
+
+    THROUGHPUT,
+    DEBUG;
+
+    public static ExecutionMode current() {
+        String mode = System.getProperty("pw.mode", System.getenv("PW_MODE"));
+        if (mode == null || mode.isBlank()) {
+            return THROUGHPUT;
+        }
+        try {
+            return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown pw.mode '" + mode + "', expected throughput or debug", e);
+        }
+    }
+
+    /**
+     * A copy of the given options adjusted for this mode (new options for null). The argument is
+     * left untouched, so one instance can be shared by launchers running on several threads.
+     */
+    public BrowserType.LaunchOptions apply(BrowserType.LaunchOptions options) {
+        BrowserType.LaunchOptions effective = copy(options);
+        if (this == THROUGHPUT) {
+            effective.setHeadless(true).setSlowMo(0);
+        }
+        return effective;
+    }
+
+    /**
+     * Plain launch options for this mode: headless for throughput, headed for debugging.
+     */
+    public BrowserType.LaunchOptions launchOptions() {
+        return this == DEBUG
+                ? new BrowserType.LaunchOptions().setHeadless(false)
+                : apply(new BrowserType.LaunchOptions());
+    }
+
+    // LaunchOptions has no copy constructor; its options are all public fields. Shallow on purpose:
+    // only scalar fields are overwritten on the copy, lists and maps are never modified.
+    private static BrowserType.LaunchOptions copy(BrowserType.LaunchOptions options) {
+        BrowserType.LaunchOptions copy = new BrowserType.LaunchOptions();
+        if (options == null) {
+            return copy;
+        }
+        try {
+            for (Field field : BrowserType.LaunchOptions.class.getFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                    field.set(copy, field.get(options));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not copy launch options", e);
+        }
+        return copy;
+    }
+}
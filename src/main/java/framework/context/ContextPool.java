@@ -0,0 +1,324 @@
+package framework.context;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Frame;
+import com.microsoft.playwright.Page;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Pool of pre-warmed browser contexts on one browser, grouped by option profile.
+ * <p>
+ * A released context is reset and handed to the next borrower of the same profile:
+ * - All pages are closed
+ * - Cookies and routes are cleared
+ * - Permissions, geolocation and offline mode go back to the profile's values
+ * - Storage (localStorage, IndexedDB, cache storage, service workers) of every origin the
+ *   context visited is wiped through CDP on Chromium
+ * <p>
+ * When a reset cannot guarantee isolation the context is closed and a fresh one is created
+ * instead: the browser is not Chromium and the context touched some origin, the reset itself
+ * failed, the browser disconnected, or the borrower changed state Playwright cannot undo.
+ * <p>
+ * That last case is tracked on the handle {@link #acquire} returns: calling
+ * {@code addInitScript}, {@code exposeBinding}/{@code exposeFunction}, {@code setExtraHTTPHeaders},
+ * {@code setDefaultTimeout}/{@code setDefaultNavigationTimeout}, {@code routeWebSocket},
+ * {@code clock()} (an installed fake clock), {@code tracing()} (a started trace) or any
+ * {@code on...} listener marks the context as tainted and it is discarded on release. Calls made
+ * through a page ({@code page.context()}, {@code page.clock()}) bypass the handle and are not
+ * seen, so configure pooled contexts through the handle only.
+ */
+public class ContextPool implements AutoCloseable {
+
+    public static final String DEFAULT_PROFILE = "default";
+
+    private static final Logger logger = Logger.getLogger(ContextPool.class.getName());
+
+    // Context state that survives unrouteAll/clearCookies/clearPermissions; on... listeners are matched by name
+    // clock() and tracing() taint on access: what is done with the returned object is not seen
+    private static final Set<String> NOT_RESETTABLE = Set.of("addInitScript", "exposeBinding", "exposeFunction",
+            "setExtraHTTPHeaders", "setDefaultTimeout", "setDefaultNavigationTimeout", "routeWebSocket",
+            "clock", "tracing");
+
+    private final Browser browser;
+    private final int contextsPerProfile;
+    private final Consumer<BrowserContext> onCreate;
+
+    private final Map<String, Browser.NewContextOptions> profiles = new HashMap<>();
+    private final Map<String, Deque<BrowserContext>> ready = new HashMap<>();
+    private final Map<BrowserContext, Lease> leased = new IdentityHashMap<>();   // by handle
+    private final Map<BrowserContext, Set<String>> visitedOrigins = new IdentityHashMap<>();
+    private int created;
+    private int reused;
+    private int tainted;
+
+    public ContextPool(Browser browser, int contextsPerProfile) {
+        this(browser, contextsPerProfile, context -> {
+        });
+    }
+
+    /**
+     * @param onCreate called with every context the pool creates, before any borrower sees it
+     *                 (e.g. {@code BrowserHealthMonitor::watch}); listeners added here are the pool's
+     *                 own and do not taint the context
+     */
+    public ContextPool(Browser browser, int contextsPerProfile, Consumer<BrowserContext> onCreate) {
+        if (contextsPerProfile < 1) {
+            throw new IllegalArgumentException("contextsPerProfile must be at least 1 but was " + contextsPerProfile);
+        }
+        this.browser = browser;
+        this.contextsPerProfile = contextsPerProfile;
+        this.onCreate = onCreate;
+        profiles.put(DEFAULT_PROFILE, new Browser.NewContextOptions());
+    }
+
+    /**
+     * Create the default profile's contexts up front.
+     */
+    public void prewarm() {
+        prewarm(DEFAULT_PROFILE, profiles.get(DEFAULT_PROFILE));
+    }
+
+    /**
+     * Register an option profile and create its contexts up front.
+     */
+    public void prewarm(String profile, Browser.NewContextOptions options) {
+        profiles.put(profile, options);
+        Deque<BrowserContext> contexts = ready.computeIfAbsent(profile, p -> new ArrayDeque<>());
+        while (contexts.size() < contextsPerProfile) {
+            contexts.add(create(options));
+        }
+    }
+
+    public BrowserContext acquire() {
+        return acquire(DEFAULT_PROFILE, null);
+    }
+
+    /**
+     * Borrow a context for the given profile. Options are only needed the first time a
+     * profile is used; later calls may pass {@code null}.
+     */
+    public BrowserContext acquire(String profile, Browser.NewContextOptions options) {
+        if (options != null) {
+            profiles.putIfAbsent(profile, options);
+        }
+        Browser.NewContextOptions profileOptions = profiles.get(profile);
+        if (profileOptions == null) {
+            throw new IllegalArgumentException("Unknown context profile: " + profile);
+        }
+
+        Deque<BrowserContext> contexts = ready.get(profile);
+        BrowserContext context = contexts == null ? null : contexts.pollFirst();
+        if (context != null) {
+            reused++;
+        } else {
+            context = create(profileOptions);
+        }
+        Lease lease = new Lease(profile, context);
+        BrowserContext handle = (BrowserContext) Proxy.newProxyInstance(BrowserContext.class.getClassLoader(),
+                new Class<?>[]{BrowserContext.class}, lease);
+        leased.put(handle, lease);
+        return handle;
+    }
+
+    /**
+     * Return a context to the pool, resetting it for the next borrower.
+     */
+    public void release(BrowserContext handle) {
+        Lease lease = leased.remove(handle);
+        if (lease == null) {
+            throw new IllegalArgumentException("Context was not acquired from this pool");
+        }
+        BrowserContext context = lease.context;
+        Deque<BrowserContext> contexts = ready.computeIfAbsent(lease.profile, p -> new ArrayDeque<>());
+        if (lease.tainted != null) {
+            tainted++;
+            logger.fine("Discarding context after " + lease.tainted + "(), which a reset cannot undo");
+            discard(context);
+            return;
+        }
+        if (contexts.size() >= contextsPerProfile || !reset(context, profiles.get(lease.profile))) {
+            discard(context);
+            return;
+        }
+        contexts.addLast(context);
+    }
+
+    /**
+     * Close the contexts waiting in the pool; leased ones are left alone and later borrowers get
+     * fresh contexts. Lets the browser be recycled without closing the pool.
+     */
+    public void drainIdle() {
+        for (Deque<BrowserContext> contexts : ready.values()) {
+            contexts.forEach(this::discard);
+            contexts.clear();
+        }
+    }
+
+    /**
+     * Contexts ready to be handed out, across all profiles.
+     */
+    public int idle() {
+        return ready.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    public String stats() {
+        return "created=" + created + ", reused=" + reused + ", tainted=" + tainted + ", leased=" + leased.size();
+    }
+
+    @Override
+    public void close() {
+        for (Deque<BrowserContext> contexts : ready.values()) {
+            contexts.forEach(this::discard);
+        }
+        ready.clear();
+        leased.values().forEach(lease -> discard(lease.context));
+        leased.clear();
+        logger.info("Context pool closed (" + stats() + ")");
+    }
+
+    private BrowserContext create(Browser.NewContextOptions options) {
+        BrowserContext context = browser.newContext(options);
+        Set<String> origins = new LinkedHashSet<>();
+        visitedOrigins.put(context, origins);
+        context.onPage(page -> page.onFrameNavigated(frame -> recordOrigin(origins, frame)));
+        onCreate.accept(context);
+        created++;
+        return context;
+    }
+
+    private boolean reset(BrowserContext context, Browser.NewContextOptions options) {
+        if (!browser.isConnected()) {
+            return false;
+        }
+        Set<String> origins = visitedOrigins.get(context);
+        boolean chromium = "chromium".equals(browser.browserType().name());
+        if (!chromium && !origins.isEmpty()) {
+            return false;   // no way to wipe per-origin storage outside Chromium
+        }
+        try {
+            List<Page> pages = new ArrayList<>(context.pages());
+            if (!origins.isEmpty()) {
+                Page cdpPage = pages.isEmpty() ? context.newPage() : pages.get(0);
+                clearOriginStorage(context.newCDPSession(cdpPage), origins);
+                if (pages.isEmpty()) {
+                    cdpPage.close();
+                }
+            }
+            for (Page page : pages) {
+                page.close();
+            }
+            context.unrouteAll();
+            context.clearCookies();
+            context.clearPermissions();
+            if (options.permissions != null) {
+                context.grantPermissions(options.permissions);
+            }
+            context.setGeolocation(options.geolocation);
+            context.setOffline(Boolean.TRUE.equals(options.offline));
+            origins.clear();
+            return true;
+        } catch (RuntimeException e) {
+            logger.warning("Context reset failed, replacing it with a fresh context: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void clearOriginStorage(CDPSession cdp, Set<String> origins) {
+        try {
+            for (String origin : origins) {
+                JsonObject params = new JsonObject();
+                params.addProperty("origin", origin);
+                params.addProperty("storageTypes", "all");
+                cdp.send("Storage.clearDataForOrigin", params);
+            }
+        } finally {
+            cdp.detach();
+        }
+    }
+
+    private void discard(BrowserContext context) {
+        visitedOrigins.remove(context);
+        try {
+            context.close();
+        } catch (RuntimeException e) {
+            logger.fine("Ignoring failure while closing context: " + e.getMessage());
+        }
+    }
+
+    private static void recordOrigin(Set<String> origins, Frame frame) {
+        try {
+            URI uri = URI.create(frame.url());
+            if (uri.getScheme() != null && uri.getScheme().startsWith("http") && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+            }
+        } catch (IllegalArgumentException ignored) {
+            // about:blank, data: and other non-hierarchical URLs carry no storage we need to clear
+        }
+    }
+
+    private static boolean taints(Method method) {
+        String name = method.getName();
+        return NOT_RESETTABLE.contains(name)
+                || name.length() > 2 && name.startsWith("on") && Character.isUpperCase(name.charAt(2));
+    }
+
+    /**
+     * A borrowed context; the handle given to the borrower forwards every call to it and notes
+     * the first one a reset cannot undo.
+     */
+    private static final class Lease implements InvocationHandler {
+
+        final String profile;
+        final BrowserContext context;
+        String tainted;
+
+        Lease(String profile, BrowserContext context) {
+            this.profile = profile;
+            this.context = context;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Pooled" + context;
+                }
+                default -> {
+                }
+            }
+            if (tainted == null && taints(method)) {
+                tainted = method.getName();
+            }
+            try {
+                return method.invoke(context, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package framework.device;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+
+/**
+ * Immutable, validated device emulation settings.
+ * <p>
+ * {@link Browser.NewContextOptions} is mutable, so each call to {@link #contextOptions()} returns a
+ * fresh copy that a test may extend (locale, permissions, ...) without affecting other tests.
+ */
+public record DeviceDescriptor(String name,
+                               int viewportWidth,
+                               int viewportHeight,
+                               double deviceScaleFactor,
+                               boolean isMobile,
+                               boolean hasTouch,
+                               String userAgent) {
+
+    public DeviceDescriptor {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Device name is required");
+        }
+        if (viewportWidth <= 0 || viewportHeight <= 0) {
+            throw new IllegalArgumentException(name + ": viewport must be positive but was "
+                    + viewportWidth + "x" + viewportHeight);
+        }
+        if (deviceScaleFactor <= 0) {
+            throw new IllegalArgumentException(name + ": deviceScaleFactor must be positive but was " + deviceScaleFactor);
+        }
+        if (userAgent == null || userAgent.isBlank()) {
+            throw new IllegalArgumentException(name + ": userAgent is required");
+        }
+    }
+
+    public Browser.NewContextOptions contextOptions() {
+        return new Browser.NewContextOptions()
+                .setViewportSize(viewportWidth, viewportHeight)
+                .setDeviceScaleFactor(deviceScaleFactor)
+                .setIsMobile(isMobile)
+                .setHasTouch(hasTouch)
+                .setUserAgent(userAgent);
+    }
+
+    public BrowserContext newContext(Browser browser) {
+        return browser.newContext(contextOptions());
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + viewportWidth + "x" + viewportHeight + " @" + deviceScaleFactor + "x)";
+    }
+}
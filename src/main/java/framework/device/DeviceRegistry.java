@@ -0,0 +1,95 @@
+package framework.device;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Device descriptors loaded once from the bundled {@code devices.json}.
+ * <pre>
+ *   BrowserContext context = browser.newContext(DeviceRegistry.get("iPhone 14 Pro").contextOptions());
+ * </pre>
+ * Descriptors are validated at load time, so a typo in the JSON fails the first lookup
+ * instead of producing a silently wrong emulation.
+ * <p>
+ * Cross-device runs should borrow one browser (see {@link framework.browser.BrowserPool}) and open
+ * one context per device on it: emulation is a context setting, not a browser setting.
+ */
+public final class DeviceRegistry {
+
+    private static final Map<String, DeviceDescriptor> DEVICES = load("devices.json");
+
+    private DeviceRegistry() {
+    }
+
+    public static DeviceDescriptor get(String name) {
+        DeviceDescriptor device = DEVICES.get(name);
+        if (device == null) {
+            throw new IllegalArgumentException("Unknown device '" + name + "', known devices: " + DEVICES.keySet());
+        }
+        return device;
+    }
+
+    public static Collection<DeviceDescriptor> all() {
+        return DEVICES.values();
+    }
+
+    private static Map<String, DeviceDescriptor> load(String resource) {
+        try (InputStream in = DeviceRegistry.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Device registry resource not found: " + resource);
+            }
+            Map<String, DeviceDescriptor> devices = new LinkedHashMap<>();
+            JsonArray entries = JsonParser.parseReader(new InputStreamReader(in, StandardCharsets.UTF_8)).getAsJsonArray();
+            for (int i = 0; i < entries.size(); i++) {
+                JsonObject json = entries.get(i).getAsJsonObject();
+                String entry = resource + " entry " + i;
+                String name = field(json, "name", entry, JsonElement::getAsString);
+                entry = resource + " device '" + name + "'";
+                JsonObject viewport = field(json, "viewport", entry, JsonElement::getAsJsonObject);
+                DeviceDescriptor device = new DeviceDescriptor(
+                        name,
+                        field(viewport, "width", entry + " viewport", JsonElement::getAsInt),
+                        field(viewport, "height", entry + " viewport", JsonElement::getAsInt),
+                        field(json, "deviceScaleFactor", entry, JsonElement::getAsDouble),
+                        field(json, "isMobile", entry, JsonElement::getAsBoolean),
+                        field(json, "hasTouch", entry, JsonElement::getAsBoolean),
+                        field(json, "userAgent", entry, JsonElement::getAsString));
+                if (devices.putIfAbsent(device.name(), device) != null) {
+                    throw new IllegalStateException("Duplicate device in " + resource + ": " + device.name());
+                }
+            }
+            return Collections.unmodifiableMap(devices);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A required field, converted by {@code type}; a missing, null or mistyped value fails naming
+     * the entry and the field.
+     */
+    private static <T> T field(JsonObject json, String field, String entry, Function<JsonElement, T> type) {
+        JsonElement value = json.get(field);
+        if (value == null || value.isJsonNull()) {
+            throw new IllegalStateException(entry + " has no '" + field + "'");
+        }
+        try {
+            return type.apply(value);
+        } catch (UnsupportedOperationException | IllegalStateException | NumberFormatException e) {
+            throw new IllegalStateException(entry + " has an invalid '" + field + "': " + value, e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package framework.download;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Download;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+/**
+ * Downloads every link matching a selector instead of just the first one.
+ * <p>
+ * - The listing is opened in several pages of one context and clicks are spread across them
+ * - Downloads are picked up by an {@code onDownload} listener, not one {@code waitForDownload} per click
+ * - At most {@code maxInFlight} downloads are running in the browser at any time
+ * - Finished downloads go through the {@link DownloadPipeline}, so hashing and moving overlap
+ *   with the next clicks
+ * <p>
+ * All Playwright calls happen on the calling thread; the parallelism comes from the browser
+ * downloading several files at once, not from extra Java threads.
+ * <p>
+ * A link that never starts a download costs one wait timeout and ends up in the report's
+ * failures; the rest of the links are still harvested.
+ * <pre>
+ *   BulkDownloadReport report = new BulkDownloadHarvester(pipeline, 3, 8)
+ *           .harvest(context, url, "a[href*='download/']", targetDir);
+ * </pre>
+ */
+public class BulkDownloadHarvester {
+
+    private static final Logger logger = Logger.getLogger(BulkDownloadHarvester.class.getName());
+
+    private final DownloadPipeline pipeline;
+    private final int pages;
+    private final int maxInFlight;
+
+    public BulkDownloadHarvester(DownloadPipeline pipeline, int pages, int maxInFlight) {
+        if (pages < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("pages and maxInFlight must be at least 1");
+        }
+        this.pipeline = pipeline;
+        this.pages = pages;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public BulkDownloadReport harvest(BrowserContext context, String url, String selector, Path targetDir) {
+        long start = System.nanoTime();
+        Queue<Download> started = new ArrayDeque<>();
+        List<Page> tabs = new ArrayList<>();
+        List<CompletableFuture<DownloadResult>> persisted = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        int links = 0;
+        try {
+            for (int i = 0; i < pages; i++) {
+                Page tab = context.newPage();
+                tabs.add(tab);
+                tab.onDownload(started::add);
+                tab.navigate(url);
+            }
+
+            links = tabs.get(0).locator(selector).count();
+            logger.info("📥 Harvesting " + links + " links matching " + selector + " across " + pages + " pages");
+
+            Set<String> names = new HashSet<>();
+            int clicked = 0;
+            int handedOff = 0;
+            while (clicked < links) {
+                Page tab = tabs.get(clicked % pages);
+                if (clicked - handedOff >= maxInFlight) {
+                    // path() inside submit() blocks until the oldest download has finished in the browser
+                    handOff(tab, started, targetDir, names, persisted, failures);
+                    handedOff++;
+                    continue;
+                }
+                tab.locator(selector).nth(clicked).click();
+                clicked++;
+            }
+            while (handedOff < clicked) {
+                handOff(tabs.get(0), started, targetDir, names, persisted, failures);
+                handedOff++;
+            }
+        } finally {
+            tabs.forEach(BulkDownloadHarvester::closeQuietly);
+        }
+
+        List<DownloadResult> results = new ArrayList<>();
+        for (CompletableFuture<DownloadResult> future : persisted) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                failures.add(e.getCause());
+            }
+        }
+
+        BulkDownloadReport report = new BulkDownloadReport(links, results, failures,
+                (System.nanoTime() - start) / 1_000_000);
+        logger.info("✅ " + report);
+        return report;
+    }
+
+    /**
+     * Wait for the next started download and queue it for persisting. A link that never starts
+     * one times out here; the timeout is recorded and counts as that link's outcome.
+     */
+    private void handOff(Page tab, Queue<Download> started, Path targetDir, Set<String> names,
+                         List<CompletableFuture<DownloadResult>> persisted, List<Throwable> failures) {
+        try {
+            tab.waitForCondition(() -> !started.isEmpty());
+        } catch (TimeoutError e) {
+            logger.warning("⚠️ A clicked link did not start a download: " + e.getMessage().lines().findFirst().orElse(""));
+            failures.add(e);
+            return;
+        }
+        persisted.add(persist(started.poll(), targetDir, names));
+    }
+
+    private static void closeQuietly(Page tab) {
+        try {
+            tab.close();
+        } catch (RuntimeException e) {
+            logger.fine("Ignoring failure while closing harvest tab: " + e.getMessage());
+        }
+    }
+
+    private CompletableFuture<DownloadResult> persist(Download download, Path targetDir, Set<String> names) {
+        try {
+            return pipeline.submit(download, targetDir.resolve(uniqueName(download.suggestedFilename(), names)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static String uniqueName(String suggested, Set<String> names) {
+        String name = suggested;
+        for (int i = 1; !names.add(name); i++) {
+            name = i + "-" + suggested;
+        }
+        return name;
+    }
+}
@@ -0,0 +1,41 @@
+package framework.download;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of a {@link BulkDownloadHarvester} run: one {@link DownloadResult} per persisted file,
+ * plus the downloads that failed, checked together once the batch is done.
+ */
+public record BulkDownloadReport(int links, List<DownloadResult> results, List<Throwable> failures, long wallMillis) {
+
+    public boolean complete() {
+        return failures.isEmpty() && results.size() == links;
+    }
+
+    public List<DownloadResult> empty() {
+        return results.stream().filter(result -> result.size() == 0).toList();
+    }
+
+    /**
+     * Files with identical content, keyed by SHA-256; usually a sign that links point at the same export.
+     */
+    public Map<String, List<DownloadResult>> duplicates() {
+        return results.stream()
+                .collect(Collectors.groupingBy(DownloadResult::sha256))
+                .entrySet().stream()
+                .filter(entry -> entry.getValue().size() > 1)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    public long totalBytes() {
+        return results.stream().mapToLong(DownloadResult::size).sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d links downloaded, %d failed, %d bytes in %d ms",
+                results.size(), links, failures.size(), totalBytes(), wallMillis);
+    }
+}
@@ -0,0 +1,183 @@
+package framework.download;
+
+import com.microsoft.playwright.Download;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Persists downloads without the second full copy that {@link Download#saveAs} makes.
+ * <p>
+ * - Local browser, target on the same filesystem as Playwright's temp file: the temp file is
+ *   hashed once and then atomically moved into place
+ * - Target on another filesystem: the temp file is streamed into a {@code .part} sibling of the
+ *   target, hashing on the way, then atomically renamed
+ * - Remote browser ({@code BrowserType.connect}), where no local temp file exists: bytes come from
+ *   {@link Download#createReadStream()} and are hashed while they are written
+ * <p>
+ * Size and SHA-256 are computed in that same pass, so callers never re-read the file.
+ * {@link #submit} queues the file work on a small I/O pool. The Playwright calls stay on the
+ * calling thread, since Playwright objects are confined to the thread that owns them:
+ * {@code path()} waits there until the browser has finished the download, and the remote case
+ * streams there. Downloads overlap in the browser, not in this class: start several before
+ * submitting the oldest (as {@link BulkDownloadHarvester} does) to keep the network busy while
+ * earlier files are hashed and moved.
+ * <p>
+ * Failures, including those on the calling thread, are reported through the returned future;
+ * {@link #submit} does not throw for them.
+ */
+public class DownloadPipeline implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(DownloadPipeline.class.getName());
+
+    private final ExecutorService io;
+
+    public DownloadPipeline() {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    public DownloadPipeline(int ioThreads) {
+        AtomicInteger threads = new AtomicInteger();
+        this.io = Executors.newFixedThreadPool(ioThreads, runnable -> {
+            Thread thread = new Thread(runnable, "download-io-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Persist the download to {@code target} and return once it is in place.
+     */
+    public DownloadResult save(Download download, Path target) {
+        try {
+            return submit(download, target).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for the browser to finish the download, then hash and move it in the background. The
+     * future fails with the cause when the download failed or could not be persisted.
+     */
+    public CompletableFuture<DownloadResult> submit(Download download, Path target) {
+        String suggestedFilename = download.suggestedFilename();
+        Path source;
+        try {
+            source = download.path();   // blocks until the browser has finished writing
+        } catch (PlaywrightException e) {
+            // Remote browsers have no local artifact: stream it here, Playwright objects stay on this thread
+            String reason = e.getMessage().lines().findFirst().orElse(e.getClass().getSimpleName());
+            logger.info("No local file for " + suggestedFilename + ", streaming it from the browser: " + reason);
+            try {
+                return CompletableFuture.completedFuture(stream(download, target, suggestedFilename, reason));
+            } catch (RuntimeException streamFailure) {
+                return CompletableFuture.failedFuture(streamFailure);
+            }
+        }
+        if (source == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Download of " + suggestedFilename + " failed: " + download.failure()));
+        }
+        return CompletableFuture.supplyAsync(() -> persist(source, target, suggestedFilename), io);
+    }
+
+    @Override
+    public void close() {
+        io.shutdown();
+    }
+
+    private static DownloadResult persist(Path source, Path target, String suggestedFilename) {
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            if (sameFileStore(source, target)) {
+                Digest digest = digest(source);
+                move(source, target);
+                return new DownloadResult(target, suggestedFilename, digest.size(), digest.sha256(), true, null);
+            }
+            try (InputStream in = Files.newInputStream(source)) {
+                return write(in, target, suggestedFilename, null);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not persist download " + suggestedFilename, e);
+        }
+    }
+
+    private static DownloadResult stream(Download download, Path target, String suggestedFilename,
+                                         String pathFailure) {
+        try (InputStream in = download.createReadStream()) {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            return write(in, target, suggestedFilename, pathFailure);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not stream download " + suggestedFilename, e);
+        }
+    }
+
+    private static DownloadResult write(InputStream in, Path target, String suggestedFilename, String pathFailure)
+            throws IOException {
+        MessageDigest sha256 = sha256();
+        Path part = target.resolveSibling(target.getFileName() + ".part");
+        long size;
+        try (DigestInputStream digesting = new DigestInputStream(in, sha256)) {
+            size = Files.copy(digesting, part, StandardCopyOption.REPLACE_EXISTING);
+        }
+        move(part, target);
+        return new DownloadResult(target, suggestedFilename, size, HexFormat.of().formatHex(sha256.digest()), false,
+                pathFailure);
+    }
+
+    private static Digest digest(Path file) throws IOException {
+        MessageDigest sha256 = sha256();
+        long size = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                sha256.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        return new Digest(size, HexFormat.of().formatHex(sha256.digest()));
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static boolean sameFileStore(Path source, Path target) throws IOException {
+        return Files.getFileStore(source).equals(Files.getFileStore(target.toAbsolutePath().getParent()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is a mandatory JDK algorithm", e);
+        }
+    }
+
+    private record Digest(long size, String sha256) {
+    }
+}
@@ -0,0 +1,21 @@
+package framework.download;
+
+import java.nio.file.Path;
+
+/**
+ * A download persisted by {@link DownloadPipeline}: where it ended up, its size and SHA-256,
+ * and whether the browser's temp file was moved (no copy) or streamed.
+ * <p>
+ * {@code pathFailure} is why {@link com.microsoft.playwright.Download#path()} could not be used
+ * and the bytes were streamed from the browser instead (expected for remote browsers), or
+ * {@code null} when the local temp file was used.
+ */
+public record DownloadResult(Path path, String suggestedFilename, long size, String sha256, boolean moved,
+                             String pathFailure) {
+
+    @Override
+    public String toString() {
+        return suggestedFilename + " → " + path + " (" + size + " bytes, sha256 " + sha256.substring(0, 12) + "…, "
+                + (moved ? "moved" : "streamed") + (pathFailure == null ? "" : ", no local file: " + pathFailure) + ")";
+    }
+}
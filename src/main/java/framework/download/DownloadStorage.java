@@ -0,0 +1,206 @@
+package framework.download;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Owns the directory tests download into.
+ * <p>
+ * - Shards: each thread writes into {@code shard-<n>} under the root, so parallel workers do not
+ *   all create files in one directory
+ * - Names: {@code <prefix>_<uuid><ext>}, unique across threads and JVMs (timestamps are not)
+ * - Eviction: a daemon thread periodically deletes files older than {@code maxAge}, then the
+ *   oldest files until the tree is under {@code maxBytes}. Files younger than {@link #GRACE} are
+ *   never evicted, so a test can still assert on what it just downloaded.
+ * <p>
+ * {@link #shared()} uses {@code src/test/resources/TestData/temp}, keeps 256 MB for an hour,
+ * overridable with {@code -Dpw.downloads.maxMb} and {@code -Dpw.downloads.maxAgeMinutes}.
+ */
+public class DownloadStorage implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(DownloadStorage.class.getName());
+
+    public static final Path DEFAULT_ROOT = Paths.get("src", "test", "resources", "TestData", "temp");
+    public static final Duration GRACE = Duration.ofMinutes(1);
+
+    private final Path root;
+    private final long maxBytes;
+    private final Duration maxAge;
+    private final int shards;
+    private final ScheduledExecutorService sweeper;
+
+    public DownloadStorage(Path root, long maxBytes, Duration maxAge, Duration sweepInterval) {
+        this(root, maxBytes, maxAge);
+        sweeper.scheduleWithFixedDelay(this::sweepQuietly, 0, sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Without background sweeps: only explicit {@link #sweep()} calls evict.
+     */
+    DownloadStorage(Path root, long maxBytes, Duration maxAge) {
+        if (maxBytes <= 0 || maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("maxBytes and maxAge must be positive");
+        }
+        this.root = root.toAbsolutePath();
+        this.maxBytes = maxBytes;
+        this.maxAge = maxAge;
+        this.shards = Runtime.getRuntime().availableProcessors();
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "download-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Storage shared by all suites in this JVM.
+     */
+    public static DownloadStorage shared() {
+        return Holder.SHARED;
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    /**
+     * The calling thread's shard directory, e.g. for {@code LaunchOptions.setDownloadsPath}.
+     */
+    public Path shard() {
+        Path shard = root.resolve("shard-" + Math.floorMod(Thread.currentThread().threadId(), shards));
+        return createDirectories(shard);
+    }
+
+    /**
+     * A fresh, not yet existing file in the caller's shard, e.g. {@code newFile("selfie", ".png")}.
+     */
+    public Path newFile(String prefix, String extension) {
+        return shard().resolve(prefix + "_" + UUID.randomUUID() + extension);
+    }
+
+    /**
+     * A fresh file named after a download's suggested filename.
+     */
+    public Path newFile(String suggestedFilename) {
+        int dot = suggestedFilename.lastIndexOf('.');
+        return dot > 0
+                ? newFile(suggestedFilename.substring(0, dot), suggestedFilename.substring(dot))
+                : newFile(suggestedFilename, "");
+    }
+
+    /**
+     * A fresh, empty directory in the caller's shard, for batches of downloads.
+     */
+    public Path newDirectory(String prefix) {
+        return createDirectories(shard().resolve(prefix + "_" + UUID.randomUUID()));
+    }
+
+    /**
+     * Evict now; normally the background thread does this.
+     *
+     * @return the number of files deleted
+     */
+    public int sweep() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        List<Entry> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path path : walk.toList()) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        files.add(new Entry(path, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                    }
+                } catch (NoSuchFileException ignored) {
+                    // moved or deleted while walking
+                }
+            }
+        }
+        files.sort(Comparator.comparingLong(Entry::modified));
+
+        long total = files.stream().mapToLong(Entry::size).sum();
+        int deleted = 0;
+        for (Entry file : files) {
+            long age = now - file.modified();
+            boolean expired = age > maxAge.toMillis();
+            boolean overBudget = total > maxBytes && age > GRACE.toMillis();
+            if ((expired || overBudget) && Files.deleteIfExists(file.path())) {
+                total -= file.size();
+                deleted++;
+            }
+        }
+        deleteEmptyBatchDirectories(now);
+        if (deleted > 0) {
+            logger.info("🧹 Evicted " + deleted + " downloads, " + total / 1024 + " KB left in " + root);
+        }
+        return deleted;
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (IOException | UncheckedIOException e) {
+            logger.warning("⚠️ Download sweep failed: " + e.getMessage());
+        }
+    }
+
+    private void deleteEmptyBatchDirectories(long now) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            List<Path> directories = walk.filter(Files::isDirectory)
+                    .filter(dir -> dir.getParent() != null && !dir.getParent().equals(root) && !dir.equals(root))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+            for (Path dir : directories) {
+                if (now - Files.getLastModifiedTime(dir).toMillis() > GRACE.toMillis() && isEmpty(dir)) {
+                    Files.deleteIfExists(dir);
+                }
+            }
+        }
+    }
+
+    private static boolean isEmpty(Path dir) throws IOException {
+        try (Stream<Path> children = Files.list(dir)) {
+            return children.findAny().isEmpty();
+        }
+    }
+
+    private static Path createDirectories(Path dir) {
+        try {
+            return Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create " + dir, e);
+        }
+    }
+
+    private record Entry(Path path, long size, long modified) {
+    }
+
+    private static final class Holder {
+        static final DownloadStorage SHARED = new DownloadStorage(DEFAULT_ROOT,
+                Long.getLong("pw.downloads.maxMb", 256) * 1024 * 1024,
+                Duration.ofMinutes(Long.getLong("pw.downloads.maxAgeMinutes", 60)),
+                Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,17 @@
+package framework.matrix;
+
+/**
+ * Outcome of one matrix cell. {@code failure} is {@code null} when the cell passed.
+ */
+public record CellResult(MatrixCell cell, String worker, long durationMillis, Throwable failure) {
+
+    public boolean passed() {
+        return failure == null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-5s %6d ms  %-12s %s%s", passed() ? "PASS" : "FAIL", durationMillis, worker, cell,
+                passed() ? "" : "  → " + failure);
+    }
+}
@@ -0,0 +1,12 @@
+package framework.matrix;
+
+import com.microsoft.playwright.Page;
+
+/**
+ * Scenario run once per matrix cell, on a fresh page of a context configured for that cell.
+ */
+@FunctionalInterface
+public interface CellScenario {
+
+    void run(Page page, MatrixCell cell) throws Exception;
+}
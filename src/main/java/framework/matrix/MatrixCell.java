@@ -0,0 +1,49 @@
+package framework.matrix;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.options.Geolocation;
+import framework.device.DeviceDescriptor;
+
+import java.util.List;
+
+/**
+ * One combination of the device × locale × geolocation matrix. Any dimension may be
+ * {@code null}, meaning "browser default".
+ */
+public record MatrixCell(DeviceDescriptor device, LocaleSetting locale, GeoSetting geolocation) {
+
+    public record LocaleSetting(String locale, String timezoneId) {
+
+        @Override
+        public String toString() {
+            return locale + "/" + timezoneId;
+        }
+    }
+
+    public record GeoSetting(String name, double latitude, double longitude) {
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    public Browser.NewContextOptions contextOptions() {
+        Browser.NewContextOptions options = device != null ? device.contextOptions() : new Browser.NewContextOptions();
+        if (locale != null) {
+            options.setLocale(locale.locale()).setTimezoneId(locale.timezoneId());
+        }
+        if (geolocation != null) {
+            options.setGeolocation(new Geolocation(geolocation.latitude(), geolocation.longitude()))
+                    .setPermissions(List.of("geolocation"));
+        }
+        return options;
+    }
+
+    @Override
+    public String toString() {
+        return (device != null ? device.name() : "default device")
+                + " | " + (locale != null ? locale : "default locale")
+                + " | " + (geolocation != null ? geolocation : "no geolocation");
+    }
+}
@@ -0,0 +1,127 @@
+package framework.matrix;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Playwright;
+import framework.device.DeviceDescriptor;
+import framework.device.DeviceRegistry;
+import framework.parallel.ScenarioExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Expands device, locale/timezone and geolocation dimensions into cells and runs a scenario for
+ * every cell in parallel.
+ * <pre>
+ *   List&lt;CellResult&gt; results = new MatrixRunner(2, launcher)
+ *           .devices("iPhone 14 Pro", "Galaxy S23 Ultra")
+ *           .locale("fr-FR", "Europe/Paris")
+ *           .locale("hi-IN", "Asia/Kolkata")
+ *           .geolocation("Paris", 48.8566, 2.3522)
+ *           .run((page, cell) -&gt; { ... });
+ * </pre>
+ * Cells are contexts, not browsers: a handful of shared browsers (one per {@link ScenarioExecutor}
+ * worker) serve the whole matrix. A failing cell is reported, it does not stop the other cells.
+ */
+public class MatrixRunner {
+
+    private static final Logger logger = Logger.getLogger(MatrixRunner.class.getName());
+
+    private final int browsers;
+    private final Function<Playwright, Browser> launcher;
+    private final List<DeviceDescriptor> devices = new ArrayList<>();
+    private final List<MatrixCell.LocaleSetting> locales = new ArrayList<>();
+    private final List<MatrixCell.GeoSetting> geolocations = new ArrayList<>();
+
+    public MatrixRunner(int browsers, Function<Playwright, Browser> launcher) {
+        this.browsers = browsers;
+        this.launcher = launcher;
+    }
+
+    public MatrixRunner devices(String... names) {
+        Arrays.stream(names).map(DeviceRegistry::get).forEach(devices::add);
+        return this;
+    }
+
+    public MatrixRunner locale(String locale, String timezoneId) {
+        locales.add(new MatrixCell.LocaleSetting(locale, timezoneId));
+        return this;
+    }
+
+    public MatrixRunner geolocation(String name, double latitude, double longitude) {
+        geolocations.add(new MatrixCell.GeoSetting(name, latitude, longitude));
+        return this;
+    }
+
+    /**
+     * Cartesian product of all dimensions; an empty dimension contributes a single default.
+     */
+    public List<MatrixCell> cells() {
+        List<MatrixCell> cells = new ArrayList<>();
+        for (DeviceDescriptor device : orDefault(devices)) {
+            for (MatrixCell.LocaleSetting locale : orDefault(locales)) {
+                for (MatrixCell.GeoSetting geo : orDefault(geolocations)) {
+                    cells.add(new MatrixCell(device, locale, geo));
+                }
+            }
+        }
+        return cells;
+    }
+
+    public List<CellResult> run(CellScenario scenario) {
+        List<MatrixCell> cells = cells();
+        List<CompletableFuture<CellResult>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+
+        try (ScenarioExecutor executor = ScenarioExecutor.create(Math.min(browsers, cells.size()), launcher)) {
+            for (MatrixCell cell : cells) {
+                futures.add(executor.submit(browser -> runCell(browser, cell, scenario)));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+
+        List<CellResult> results = futures.stream().map(CompletableFuture::join).toList();
+        logger.info(String.format("Matrix: %d cells on %d browsers in %d ms",
+                cells.size(), Math.min(browsers, cells.size()), (System.nanoTime() - start) / 1_000_000));
+        results.forEach(result -> logger.info(result.toString()));
+        return results;
+    }
+
+    private static CellResult runCell(Browser browser, MatrixCell cell, CellScenario scenario) {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        BrowserContext context = null;
+        try {
+            // Inside the try: bad options or a dead browser fail this cell, not the whole matrix
+            context = browser.newContext(cell.contextOptions());
+            scenario.run(context.newPage(), cell);
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            if (context != null) {
+                try {
+                    context.close();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+        return new CellResult(cell, Thread.currentThread().getName(), (System.nanoTime() - start) / 1_000_000, failure);
+    }
+
+    private static <T> List<T> orDefault(List<T> dimension) {
+        if (dimension.isEmpty()) {
+            List<T> unset = new ArrayList<>();
+            unset.add(null);
+            return unset;
+        }
+        return dimension;
+    }
+}
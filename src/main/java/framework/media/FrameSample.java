@@ -0,0 +1,35 @@
+package framework.media;
+
+import java.util.Arrays;
+
+/**
+ * One video frame reduced in the page to what a test needs to recognise it: a 16-bin luminance
+ * histogram, the mean luminance and a 64-bit average hash (8x8, bit 63 is the top-left cell).
+ */
+public record FrameSample(int width, int height, double meanLuma, int[] histogram, long averageHash) {
+
+    public int hammingDistance(long otherHash) {
+        return Long.bitCount(averageHash ^ otherHash);
+    }
+
+    /**
+     * Same picture, allowing {@code tolerance} differing hash bits for scaling and colour conversion.
+     */
+    public boolean matches(long expectedHash, int tolerance) {
+        return hammingDistance(expectedHash) <= tolerance;
+    }
+
+    /**
+     * A frozen black or blank feed puts (nearly) all pixels into one bin.
+     */
+    public boolean isUniform() {
+        int total = Arrays.stream(histogram).sum();
+        return Arrays.stream(histogram).anyMatch(bin -> bin > total * 0.98);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%dx%d, mean luma %.1f, aHash %016x, histogram %s",
+                width, height, meanLuma, averageHash, Arrays.toString(histogram));
+    }
+}
@@ -0,0 +1,112 @@
+package framework.media;
+
+import com.microsoft.playwright.Page;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Samples frames of a live camera feed inside the page and returns only a {@link FrameSample},
+ * so camera tests assert on the stream itself instead of saving a screenshot to disk.
+ * <p>
+ * - {@link #sample(Page, String)}: the frame currently shown by a {@code <video>} element
+ * - {@link #sampleCamera(Page)}: opens the (fake) camera with {@code getUserMedia}, grabs one
+ *   frame and stops the tracks again, without any page UI
+ * <p>
+ * Combined with {@link Y4mGenerator} marker clips: {@code sample.matches(generator.expectedHash(), 4)}.
+ */
+public final class MediaProbe {
+
+    private static final String REDUCE = """
+            video => {
+                const grab = (w, h) => {
+                    const canvas = document.createElement('canvas');
+                    canvas.width = w;
+                    canvas.height = h;
+                    const ctx = canvas.getContext('2d', { willReadFrequently: true });
+                    ctx.drawImage(video, 0, 0, w, h);
+                    const rgba = ctx.getImageData(0, 0, w, h).data;
+                    const luma = new Array(w * h);
+                    for (let i = 0; i < luma.length; i++) {
+                        luma[i] = 0.299 * rgba[4 * i] + 0.587 * rgba[4 * i + 1] + 0.114 * rgba[4 * i + 2];
+                    }
+                    return luma;
+                };
+                const small = grab(64, 48);
+                const histogram = new Array(16).fill(0);
+                small.forEach(l => histogram[Math.min(15, Math.floor(l / 16))]++);
+                const hash = grab(8, 8);
+                const mean = hash.reduce((a, b) => a + b, 0) / hash.length;
+                return {
+                    width: video.videoWidth,
+                    height: video.videoHeight,
+                    meanLuma: small.reduce((a, b) => a + b, 0) / small.length,
+                    histogram,
+                    hashBits: hash.map(l => l > mean ? '1' : '0').join('')
+                };
+            }
+            """;
+
+    private static final String FROM_ELEMENT = """
+            selector => {
+                const video = document.querySelector(selector);
+                if (!video) {
+                    throw new Error('No video element matches ' + selector);
+                }
+                return (%s)(video);
+            }
+            """.formatted(REDUCE);
+
+    private static final String FROM_CAMERA = """
+            async () => {
+                const stream = await navigator.mediaDevices.getUserMedia({ video: true });
+                const video = document.createElement('video');
+                video.muted = true;
+                video.srcObject = stream;
+                await video.play();
+                await new Promise(resolve => 'requestVideoFrameCallback' in video
+                        ? video.requestVideoFrameCallback(() => resolve())
+                        : setTimeout(resolve, 100));
+                try {
+                    return (%s)(video);
+                } finally {
+                    stream.getTracks().forEach(track => track.stop());
+                }
+            }
+            """.formatted(REDUCE);
+
+    private MediaProbe() {
+    }
+
+    /**
+     * Sample the first {@code <video>}; wait for it with {@code Waits.mediaStreamReady} first.
+     */
+    public static FrameSample sample(Page page) {
+        return sample(page, "video");
+    }
+
+    public static FrameSample sample(Page page, String videoSelector) {
+        return toSample(page.evaluate(FROM_ELEMENT, videoSelector));
+    }
+
+    /**
+     * Needs the camera permission (or {@code --use-fake-ui-for-media-stream}) and a secure origin.
+     */
+    public static FrameSample sampleCamera(Page page) {
+        return toSample(page.evaluate(FROM_CAMERA));
+    }
+
+    private static FrameSample toSample(Object result) {
+        if (!(result instanceof Map<?, ?> values)) {
+            throw new IllegalStateException("Unexpected frame sample from page: " + result);
+        }
+        List<?> bins = (List<?>) values.get("histogram");
+        int[] histogram = bins.stream().mapToInt(bin -> ((Number) bin).intValue()).toArray();
+        return new FrameSample(
+                ((Number) values.get("width")).intValue(),
+                ((Number) values.get("height")).intValue(),
+                ((Number) values.get("meanLuma")).doubleValue(),
+                histogram,
+                Long.parseUnsignedLong((String) values.get("hashBits"), 2));
+    }
+}
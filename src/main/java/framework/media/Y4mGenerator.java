@@ -0,0 +1,236 @@
+package framework.media;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Writes synthetic Y4M (YUV 4:2:0) clips for Chromium's fake camera, instead of checking
+ * pre-converted recordings into the repo.
+ * <pre>
+ *   Path clip = new Y4mGenerator(Y4mGenerator.Pattern.MOVING_BOX).size(640, 480).fps(30).seconds(2).writeTemp();
+ *   launchOptions.setArgs(List.of("--use-fake-device-for-media-stream",
+ *           "--use-file-for-fake-video-capture=" + clip));
+ * </pre>
+ * Chromium loops the clip, so a couple of seconds is enough. {@link #writeTemp()} writes to the temp
+ * directory, or to {@code /dev/shm} with {@code -Dpw.camera=tmpfs}; a named pipe does not work
+ * because the capture device seeks back to the start of the file on every loop. Its path depends
+ * only on the clip's parameters, so equal clips give equal launch args and a {@code BrowserPool}
+ * can reuse the browser.
+ * <p>
+ * Give each parallel worker its own {@link Pattern#MARKER} id to tell their streams apart.
+ */
+public class Y4mGenerator {
+
+    public enum Pattern {
+        /** Seven 75% SMPTE-style colour bars, static. */
+        COLOR_BARS,
+        /** A white square bouncing across a dark background, one position per frame. */
+        MOVING_BOX,
+        /** A static 4x4 grid of black/white cells encoding a 16-bit marker id, row by row. */
+        MARKER
+    }
+
+    // Y, U, V of white, yellow, cyan, green, magenta, red, blue at 75% (BT.601)
+    private static final int[][] BARS = {
+            {180, 128, 128}, {162, 44, 142}, {131, 156, 44}, {112, 72, 58},
+            {84, 184, 198}, {65, 100, 212}, {35, 212, 114}};
+
+    static final int BLACK = 16;
+    static final int WHITE = 235;
+    private static final int BACKGROUND = 40;
+
+    private final Pattern pattern;
+    private int width = 640;
+    private int height = 480;
+    private int fps = 30;
+    private double seconds = 2;
+    private int marker;
+
+    public Y4mGenerator(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    public Y4mGenerator size(int width, int height) {
+        if (width <= 0 || height <= 0 || width % 2 != 0 || height % 2 != 0) {
+            throw new IllegalArgumentException("Frame size must be positive and even for 4:2:0, got "
+                    + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        return this;
+    }
+
+    public Y4mGenerator fps(int fps) {
+        if (fps <= 0) {
+            throw new IllegalArgumentException("fps must be positive, got " + fps);
+        }
+        this.fps = fps;
+        return this;
+    }
+
+    public Y4mGenerator seconds(double seconds) {
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("Duration must be positive, got " + seconds);
+        }
+        this.seconds = seconds;
+        return this;
+    }
+
+    /**
+     * Marker id for {@link Pattern#MARKER}, 0..65535.
+     */
+    public Y4mGenerator marker(int id) {
+        if (id < 0 || id > 0xFFFF) {
+            throw new IllegalArgumentException("Marker id must fit in 16 bits, got " + id);
+        }
+        this.marker = id;
+        return this;
+    }
+
+    public int frames() {
+        return Math.max(1, (int) Math.round(fps * seconds));
+    }
+
+    /**
+     * Size of the clip on disk, to check before writing long high-resolution clips.
+     */
+    public long bytes() {
+        return header().length + (long) frames() * ("FRAME\n".length() + width * height * 3L / 2);
+    }
+
+    /**
+     * The 64-bit average hash {@link MediaProbe} should report for this clip's {@link Pattern#MARKER} grid.
+     */
+    public long expectedHash() {
+        if (pattern != Pattern.MARKER) {
+            throw new IllegalStateException("Only MARKER clips have a fixed expected hash, this one is " + pattern);
+        }
+        int[] luma = new int[64];
+        double mean = 0;
+        for (int i = 0; i < 64; i++) {
+            luma[i] = markerLuma(marker, i % 8 / 2, i / 8 / 2);
+            mean += luma[i] / 64.0;
+        }
+        long hash = 0;
+        for (int i = 0; i < 64; i++) {
+            hash = hash << 1 | (luma[i] > mean ? 1 : 0);
+        }
+        return hash;
+    }
+
+    public Path write(Path target) {
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), 1 << 20)) {
+                out.write(header());
+                byte[] frameHeader = "FRAME\n".getBytes(StandardCharsets.US_ASCII);
+                byte[] frame = new byte[width * height * 3 / 2];
+                for (int i = 0; i < frames(); i++) {
+                    if (i == 0 || pattern == Pattern.MOVING_BOX) {
+                        render(frame, i);
+                    }
+                    out.write(frameHeader);
+                    out.write(frame);
+                }
+            }
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write Y4M clip " + target, e);
+        }
+    }
+
+    /**
+     * Write to the temp directory under a name derived from the clip's parameters, reusing the file
+     * when an earlier call or run already wrote it.
+     * <p>
+     * With {@code -Dpw.camera=tmpfs} the clip goes to {@code /dev/shm} instead, which is memory:
+     * there the name also carries this JVM's pid and the file is deleted when the JVM exits, so
+     * clips are shared within a run but never pile up across runs.
+     */
+    public Path writeTemp() {
+        Path shm = Paths.get("/dev/shm");
+        boolean tmpfs = "tmpfs".equalsIgnoreCase(System.getProperty("pw.camera", "disk"))
+                && Files.isDirectory(shm) && Files.isWritable(shm);
+        Path dir = tmpfs ? shm : Paths.get(System.getProperty("java.io.tmpdir"));
+        Path file = dir.resolve(String.format("pw-camera-%s-%dx%d-%dfps-%df%s%s.y4m", pattern.name().toLowerCase(),
+                width, height, fps, frames(), pattern == Pattern.MARKER ? String.format("-%04x", marker) : "",
+                tmpfs ? "-" + ProcessHandle.current().pid() : ""));
+        try {
+            if (Files.isRegularFile(file) && Files.size(file) == bytes()) {
+                return file;
+            }
+            // Written aside and renamed, so parallel workers never feed Chromium a half-written clip
+            Path part = write(Files.createTempFile(dir, file.getFileName().toString(), ".part"));
+            Files.move(part, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (tmpfs) {
+                file.toFile().deleteOnExit();
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the Y4M clip to " + file, e);
+        }
+    }
+
+    private byte[] header() {
+        return ("YUV4MPEG2 W" + width + " H" + height + " F" + fps + ":1 Ip A1:1 C420jpeg\n")
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private void render(byte[] frame, int index) {
+        int lumaSize = width * height;
+        int chromaWidth = width / 2;
+        int chromaSize = lumaSize / 4;
+        switch (pattern) {
+            case COLOR_BARS -> {
+                for (int y = 0; y < height; y++) {
+                    for (int x = 0; x < width; x++) {
+                        frame[y * width + x] = (byte) BARS[x * BARS.length / width][0];
+                    }
+                }
+                for (int y = 0; y < height / 2; y++) {
+                    for (int x = 0; x < chromaWidth; x++) {
+                        int[] bar = BARS[x * BARS.length / chromaWidth];
+                        frame[lumaSize + y * chromaWidth + x] = (byte) bar[1];
+                        frame[lumaSize + chromaSize + y * chromaWidth + x] = (byte) bar[2];
+                    }
+                }
+            }
+            case MOVING_BOX -> {
+                Arrays.fill(frame, 0, lumaSize, (byte) BACKGROUND);
+                Arrays.fill(frame, lumaSize, frame.length, (byte) 128);
+                int box = Math.max(2, height / 4);
+                int travel = Math.max(1, width - box);
+                int step = index * Math.max(1, width / fps) % (2 * travel);
+                int left = step < travel ? step : 2 * travel - step;
+                int top = (height - box) / 2;
+                for (int y = top; y < top + box; y++) {
+                    Arrays.fill(frame, y * width + left, y * width + left + box, (byte) WHITE);
+                }
+            }
+            case MARKER -> {
+                for (int y = 0; y < height; y++) {
+                    for (int x = 0; x < width; x++) {
+                        frame[y * width + x] = (byte) markerLuma(marker, x * 4 / width, y * 4 / height);
+                    }
+                }
+                Arrays.fill(frame, lumaSize, frame.length, (byte) 128);
+            }
+        }
+    }
+
+    /**
+     * Luma of cell ({@code column}, {@code row}) of the 4x4 marker grid: bit 15 is the top-left cell.
+     */
+    static int markerLuma(int id, int column, int row) {
+        int bit = 15 - (row * 4 + column);
+        return (id >> bit & 1) == 1 ? WHITE : BLACK;
+    }
+}
@@ -0,0 +1,31 @@
+package framework.network;
+
+import java.util.Set;
+
+/**
+ * What a {@link ResourceBlocker} keeps out of the page.
+ * <p>
+ * - {@link #TEXT_ONLY}: documents, scripts, styles and API calls only; no images, fonts or media
+ * - {@link #NO_THIRD_PARTY}: only requests to the site under test (its own subdomains included)
+ * - {@link #TEXT_ONLY_FIRST_PARTY}: both of the above, the leanest setting for title/search checks
+ */
+public enum BlockingProfile {
+
+    TEXT_ONLY(true, false),
+    NO_THIRD_PARTY(false, true),
+    TEXT_ONLY_FIRST_PARTY(true, true);
+
+    private static final Set<String> HEAVY_TYPES = Set.of("image", "media", "font", "texttrack", "manifest");
+
+    private final boolean blockHeavyTypes;
+    private final boolean blockThirdParty;
+
+    BlockingProfile(boolean blockHeavyTypes, boolean blockThirdParty) {
+        this.blockHeavyTypes = blockHeavyTypes;
+        this.blockThirdParty = blockThirdParty;
+    }
+
+    boolean blocks(String resourceType, boolean thirdParty) {
+        return (blockHeavyTypes && HEAVY_TYPES.contains(resourceType)) || (blockThirdParty && thirdParty);
+    }
+}
@@ -0,0 +1,57 @@
+package framework.network;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-test tally of what a {@link ResourceBlocker} let through and what it saved.
+ * <p>
+ * Aborted requests never reach the wire, so their size is unknown; the report counts them by
+ * resource type and sums the received header and body bytes of what was actually loaded. Comparing
+ * {@link #loadedBytes()} with an unblocked run gives the bytes saved.
+ */
+public class BlockingReport {
+
+    private final BlockingProfile profile;
+    private final Map<String, Integer> blockedByType = new TreeMap<>();
+    private int allowed;
+    private long loadedBytes;
+
+    BlockingReport(BlockingProfile profile) {
+        this.profile = profile;
+    }
+
+    synchronized void blocked(String resourceType) {
+        blockedByType.merge(resourceType, 1, Integer::sum);
+    }
+
+    synchronized void allowed() {
+        allowed++;
+    }
+
+    synchronized void loaded(long bytes) {
+        loadedBytes += bytes;
+    }
+
+    public synchronized int blockedRequests() {
+        return blockedByType.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public synchronized Map<String, Integer> blockedByType() {
+        return new TreeMap<>(blockedByType);
+    }
+
+    public synchronized int allowedRequests() {
+        return allowed;
+    }
+
+    public synchronized long loadedBytes() {
+        return loadedBytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return profile + ": blocked " + blockedRequests() + " requests " + blockedByType
+                + ", allowed " + allowed + " requests, loaded " + loadedBytes + " bytes";
+    }
+}
@@ -0,0 +1,128 @@
+package framework.network;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.HarNotFound;
+import framework.server.Fixtures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Record-once, replay-afterwards network cache built on {@link BrowserContext#routeFromHAR}.
+ * <p>
+ * One HAR file per host lives under the store directory ({@code .har-cache/} by default):
+ * - No HAR yet, or the HAR is older than the host's TTL: the context records to it.
+ *   Playwright writes the file when the context closes
+ * - Fresh HAR: requests are answered from it; anything it does not contain falls back to the network
+ * <p>
+ * Only requests to the host and its subdomains are recorded and replayed. Hosts served by the
+ * local {@link Fixtures} server are never cached: they are already offline, and their loopback
+ * port changes every run, so a recording could never match.
+ * <p>
+ * Per-run switches: {@code -Dpw.har=off} disables the cache, {@code -Dpw.har=refresh} re-records
+ * every host regardless of age.
+ */
+public class HarCache {
+
+    public enum Mode { RECORD, REPLAY, OFF }
+
+    private static final Logger logger = Logger.getLogger(HarCache.class.getName());
+    private static final HarCache SHARED = new HarCache(Paths.get(".har-cache"), Duration.ofDays(1));
+
+    private final Path store;
+    private final Duration defaultTtl;
+    private final Map<String, Duration> ttlByHost = new HashMap<>();
+
+    public HarCache(Path store, Duration defaultTtl) {
+        this.store = store;
+        this.defaultTtl = defaultTtl;
+    }
+
+    public static HarCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Override the staleness policy for one host, e.g. a short TTL for a host whose assets change daily.
+     */
+    public HarCache ttl(String host, Duration ttl) {
+        ttlByHost.put(host, ttl);
+        return this;
+    }
+
+    public Path harFile(String host) {
+        return store.resolve(host + ".har");
+    }
+
+    /**
+     * Route the context's traffic through the cache for the given host and return what it will do.
+     * Must be called before the first navigation.
+     */
+    public Mode attach(BrowserContext context, String host) {
+        Mode mode = modeFor(host);
+        if (mode == Mode.OFF) {
+            return mode;
+        }
+        Path har = harFile(host);
+        BrowserContext.RouteFromHAROptions options = new BrowserContext.RouteFromHAROptions()
+                .setUrl(hostPattern(host))
+                .setNotFound(HarNotFound.FALLBACK);
+        if (mode == Mode.RECORD) {
+            try {
+                Files.createDirectories(store);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            options.setUpdate(true);
+        }
+        context.routeFromHAR(har, options);
+        logger.info("HAR cache " + mode + " for " + host + " (" + har + ")");
+        return mode;
+    }
+
+    /**
+     * Answer the host's requests from its recorded HAR only: requests the recording does not
+     * contain are aborted instead of going to the network. Use it to prove a recording covers a flow.
+     */
+    public void replay(BrowserContext context, String host) {
+        Path har = harFile(host);
+        if (!Files.isRegularFile(har)) {
+            throw new IllegalStateException("No HAR recorded for " + host + " at " + har);
+        }
+        context.routeFromHAR(har, new BrowserContext.RouteFromHAROptions()
+                .setUrl(hostPattern(host))
+                .setNotFound(HarNotFound.ABORT));
+    }
+
+    Mode modeFor(String host) {
+        String setting = System.getProperty("pw.har", "on");
+        if ("off".equalsIgnoreCase(setting) || Fixtures.local() && Fixtures.server().serves(host)) {
+            return Mode.OFF;
+        }
+        Path har = harFile(host);
+        if ("refresh".equalsIgnoreCase(setting) || !Files.isRegularFile(har)) {
+            return Mode.RECORD;
+        }
+        try {
+            Instant recordedAt = Files.getLastModifiedTime(har).toInstant();
+            Duration ttl = ttlByHost.getOrDefault(host, defaultTtl);
+            return recordedAt.plus(ttl).isBefore(Instant.now()) ? Mode.RECORD : Mode.REPLAY;
+        } catch (IOException e) {
+            return Mode.RECORD;
+        }
+    }
+
+    // The host itself and any subdomain (e.g. the API host behind a site), on any scheme and port
+    private static Pattern hostPattern(String host) {
+        return Pattern.compile("^[a-z]+://([^/?#]+\\.)?" + Pattern.quote(host) + "(:\\d+)?([/?#].*)?$");
+    }
+}
@@ -0,0 +1,120 @@
+package framework.network;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import com.microsoft.playwright.options.Sizes;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Aborts the requests a {@link BlockingProfile} rules out, via a catch-all {@code route} handler.
+ * <pre>
+ *   BlockingReport report = ResourceBlocker.apply(page, BlockingProfile.TEXT_ONLY);
+ *   page.navigate(...);
+ *   System.out.println(report);
+ * </pre>
+ * Requests the profile allows are passed on with {@link Route#fallback()}, so other routes on the
+ * same page or context (HAR replay, mocks) still see them.
+ * <p>
+ * The first party is the site of the latest main-frame navigation; subdomains count as the same
+ * site (api.example.com is first party on www.example.com). Sites are approximated without the
+ * Public Suffix List: the last two host labels, or three under the suffixes in
+ * {@code SHARED_SUFFIXES} (country second-level domains such as co.uk, and multi-tenant hosts such
+ * as herokuapp.com, where every app is its own site). Suffixes missing from that list make
+ * unrelated sites under them look first party to each other.
+ */
+public final class ResourceBlocker {
+
+    private static final Set<String> SHARED_SUFFIXES = Set.of(
+            "co.uk", "org.uk", "ac.uk", "gov.uk", "com.au", "net.au", "co.nz", "co.jp", "co.in",
+            "com.br", "com.cn", "co.za",
+            "herokuapp.com", "github.io", "netlify.app", "vercel.app", "pages.dev", "web.app",
+            "firebaseapp.com", "appspot.com", "azurewebsites.net", "cloudfront.net", "amazonaws.com");
+
+    private ResourceBlocker() {
+    }
+
+    public static BlockingReport apply(Page page, BlockingProfile profile) {
+        BlockingReport report = new BlockingReport(profile);
+        AtomicReference<String> firstParty = new AtomicReference<>();
+        page.route("**/*", route -> handle(route, profile, firstParty, report));
+        page.onRequestFinished(countLoadedBytes(report));
+        return report;
+    }
+
+    public static BlockingReport apply(BrowserContext context, BlockingProfile profile) {
+        BlockingReport report = new BlockingReport(profile);
+        AtomicReference<String> firstParty = new AtomicReference<>();
+        context.route("**/*", route -> handle(route, profile, firstParty, report));
+        context.onRequestFinished(countLoadedBytes(report));
+        return report;
+    }
+
+    private static void handle(Route route, BlockingProfile profile, AtomicReference<String> firstParty,
+                               BlockingReport report) {
+        Request request = route.request();
+        String site = site(request.url());
+        if (isMainFrameNavigation(request)) {
+            firstParty.set(site);
+        }
+        boolean thirdParty = site != null && firstParty.get() != null && !site.equals(firstParty.get());
+        if (profile.blocks(request.resourceType(), thirdParty)) {
+            report.blocked(request.resourceType());
+            route.abort("blockedbyclient");
+        } else {
+            report.allowed();
+            route.fallback();
+        }
+    }
+
+    /**
+     * Bytes as received once the response has finished: chunked and compressed responses often
+     * carry no Content-Length, so the header alone undercounts the heaviest ones.
+     */
+    private static Consumer<Request> countLoadedBytes(BlockingReport report) {
+        return request -> {
+            try {
+                Sizes sizes = request.sizes();
+                report.loaded(Math.max(sizes.responseHeadersSize, 0) + Math.max(sizes.responseBodySize, 0));
+            } catch (PlaywrightException ignored) {
+                // page or context closed before the sizes arrived, nothing to count
+            }
+        };
+    }
+
+    private static boolean isMainFrameNavigation(Request request) {
+        try {
+            return request.isNavigationRequest() && request.frame().parentFrame() == null;
+        } catch (PlaywrightException e) {
+            return false;   // service worker requests have no frame
+        }
+    }
+
+    /**
+     * Registrable-site approximation: the last two host labels (three under a shared suffix), or
+     * the whole host for IPs and localhost.
+     */
+    static String site(String url) {
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (host == null || host.indexOf('.') < 0 || host.chars().allMatch(c -> c == '.' || Character.isDigit(c))) {
+            return host;
+        }
+        String[] labels = host.split("\\.");
+        String site = labels[labels.length - 2] + "." + labels[labels.length - 1];
+        if (SHARED_SUFFIXES.contains(site) && labels.length > 2) {
+            site = labels[labels.length - 3] + "." + site;
+        }
+        return site;
+    }
+}
@@ -0,0 +1,13 @@
+package framework.parallel;
+
+import com.microsoft.playwright.Browser;
+
+/**
+ * Unit of work executed by a parallel worker against the browser that worker owns.
+ * The browser must not escape the task: it is confined to the worker's thread.
+ */
+@FunctionalInterface
+public interface BrowserTask<T> {
+
+    T run(Browser browser) throws Exception;
+}
@@ -0,0 +1,138 @@
+package framework.parallel;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import framework.config.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * Runs one scenario on several browser engines at the same time.
+ * <p>
+ * Each engine gets its own thread with its own {@link Playwright}, so nothing is shared across
+ * threads, and the total time is that of the slowest engine instead of the sum of all of them:
+ * <pre>
+ *   Report&lt;String&gt; report = new CrossBrowserRunner(options, Engine.values()).run(page -&gt; {
+ *       page.navigate(url);
+ *       return page.title();
+ *   });
+ * </pre>
+ */
+public class CrossBrowserRunner {
+
+    private static final Logger logger = Logger.getLogger(CrossBrowserRunner.class.getName());
+
+    private final BrowserType.LaunchOptions options;
+    private final List<Engine> engines;
+
+    public CrossBrowserRunner(BrowserType.LaunchOptions options, Engine... engines) {
+        if (engines.length == 0) {
+            throw new IllegalArgumentException("At least one engine is required");
+        }
+        this.options = options;
+        this.engines = List.of(engines);
+    }
+
+    public record EngineResult<T>(Engine engine, T value, long launchMillis, long scenarioMillis, Throwable failure) {
+
+        public boolean passed() {
+            return failure == null;
+        }
+
+        public long totalMillis() {
+            return launchMillis + scenarioMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-8s %-4s launch %5d ms, scenario %5d ms%s", engine, passed() ? "PASS" : "FAIL",
+                    launchMillis, scenarioMillis, passed() ? "" : "  → " + failure);
+        }
+    }
+
+    public record Report<T>(List<EngineResult<T>> results, long wallMillis) {
+
+        public boolean allPassed() {
+            return results.stream().allMatch(EngineResult::passed);
+        }
+
+        /**
+         * What running the engines one after another would have cost.
+         */
+        public long sequentialMillis() {
+            return results.stream().mapToLong(EngineResult::totalMillis).sum();
+        }
+
+        public EngineResult<T> result(Engine engine) {
+            return results.stream().filter(r -> r.engine() == engine).findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(engine + " was not part of this run"));
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            results.forEach(result -> text.append(result).append('\n'));
+            return text.append(String.format("wall %d ms (sequential would be %d ms)", wallMillis, sequentialMillis()))
+                    .toString();
+        }
+    }
+
+    public <T> Report<T> run(PageScenario<T> scenario) {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(engines.size());
+        try {
+            List<Future<EngineResult<T>>> futures = new ArrayList<>();
+            for (Engine engine : engines) {
+                futures.add(executor.submit(() -> runOn(engine, scenario)));
+            }
+            List<EngineResult<T>> results = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(await(futures.get(i), engines.get(i)));
+            }
+            Report<T> report = new Report<>(results, (System.nanoTime() - start) / 1_000_000);
+            logger.info("Cross-browser run:\n" + report);
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> EngineResult<T> runOn(Engine engine, PageScenario<T> scenario) {
+        Thread.currentThread().setName("pw-" + engine.name().toLowerCase());
+        long start = System.nanoTime();
+        long launched = start;
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = engine.type(playwright).launch(ExecutionMode.current().apply(options));
+            BrowserContext context = browser.newContext();
+            launched = System.nanoTime();
+            T value = scenario.run(context.newPage());
+            context.close();
+            return new EngineResult<>(engine, value, millis(start, launched), millis(launched, System.nanoTime()), null);
+        } catch (Throwable t) {
+            return new EngineResult<>(engine, null, millis(start, launched), millis(launched, System.nanoTime()), t);
+        }
+    }
+
+    private static <T> EngineResult<T> await(Future<EngineResult<T>> future, Engine engine) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new EngineResult<>(engine, null, 0, 0, e);
+        } catch (ExecutionException e) {
+            return new EngineResult<>(engine, null, 0, 0, e.getCause());
+        }
+    }
+
+    private static long millis(long from, long to) {
+        return (to - from) / 1_000_000;
+    }
+}
@@ -0,0 +1,20 @@
+package framework.parallel;
+
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * The three Playwright browser engines.
+ */
+public enum Engine {
+
+    CHROMIUM, FIREFOX, WEBKIT;
+
+    public BrowserType type(Playwright playwright) {
+        return switch (this) {
+            case CHROMIUM -> playwright.chromium();
+            case FIREFOX -> playwright.firefox();
+            case WEBKIT -> playwright.webkit();
+        };
+    }
+}
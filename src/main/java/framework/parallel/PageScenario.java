@@ -0,0 +1,12 @@
+package framework.parallel;
+
+import com.microsoft.playwright.Page;
+
+/**
+ * Scenario that drives a single page and returns what the caller wants to compare.
+ */
+@FunctionalInterface
+public interface PageScenario<T> {
+
+    T run(Page page) throws Exception;
+}
@@ -0,0 +1,193 @@
+package framework.parallel;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import framework.config.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Thread-per-worker executor for Playwright work.
+ * <p>
+ * Playwright objects are not thread-safe, so every worker thread creates and owns its own
+ * {@link Playwright} and {@link Browser}. Tasks are taken from a bounded queue and run against
+ * the browser of whichever worker picks them up:
+ * <pre>
+ *   try (ParallelExecutor executor = new ParallelExecutor(4, 16, ParallelExecutor.chromium(options))) {
+ *       CompletableFuture&lt;String&gt; title = executor.submit(browser -&gt; {
+ *           BrowserContext context = browser.newContext();
+ *           ...
+ *       });
+ *   }
+ * </pre>
+ * {@link #submit} blocks while the queue is full, which keeps producers from racing ahead
+ * of the browsers. {@link #stats()} reports per-worker throughput.
+ */
+public class ParallelExecutor implements ScenarioExecutor {
+
+    private static final Logger logger = Logger.getLogger(ParallelExecutor.class.getName());
+    private static final Job<?> POISON = new Job<>(null, null);
+
+    private final BlockingQueue<Job<?>> queue;
+    private final List<Worker> workers = new ArrayList<>();
+    private volatile boolean closed;
+
+    public ParallelExecutor(Function<Playwright, Browser> launcher) {
+        this(Runtime.getRuntime().availableProcessors(), 64, launcher);
+    }
+
+    public ParallelExecutor(int workerCount, int queueCapacity, Function<Playwright, Browser> launcher) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be at least 1 but was " + workerCount);
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 1; i <= workerCount; i++) {
+            Worker worker = new Worker("pw-worker-" + i, launcher);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Launcher for the common case: a Chromium browser with the given options on every worker,
+     * adjusted for the run's {@link ExecutionMode}.
+     */
+    public static Function<Playwright, Browser> chromium(BrowserType.LaunchOptions options) {
+        return playwright -> playwright.chromium().launch(ExecutionMode.current().apply(options));   // a copy per worker
+    }
+
+    public int workerCount() {
+        return workers.size();
+    }
+
+    /**
+     * Queue a task, blocking while the queue is full.
+     */
+    @Override
+    public <T> CompletableFuture<T> submit(BrowserTask<T> task) {
+        if (closed) {
+            throw new IllegalStateException("Executor is closed");
+        }
+        Job<T> job = new Job<>(task, new CompletableFuture<>());
+        try {
+            queue.put(job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing task", e);
+        }
+        return job.result();
+    }
+
+    @Override
+    public List<WorkerStats> stats() {
+        List<WorkerStats> stats = new ArrayList<>();
+        for (Worker worker : workers) {
+            stats.add(worker.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Let queued tasks finish, then shut down every worker together with its browser.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            for (int i = 0; i < workers.size(); i++) {
+                queue.put(POISON);
+            }
+            for (Worker worker : workers) {
+                worker.join(TimeUnit.MINUTES.toMillis(5));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stats().forEach(s -> logger.info(s.toString()));
+    }
+
+    private record Job<T>(BrowserTask<T> task, CompletableFuture<T> result) {
+
+        void run(Browser browser) {
+            try {
+                result.complete(task.run(browser));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+
+    private final class Worker extends Thread {
+
+        private final Function<Playwright, Browser> launcher;
+        private final long startedAt = System.nanoTime();
+        private volatile long stoppedAt;
+        private volatile long busyNanos;
+        private volatile int completed;
+        private volatile int failed;
+
+        Worker(String name, Function<Playwright, Browser> launcher) {
+            super(name);
+            this.launcher = launcher;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            Playwright playwright = null;
+            Browser browser = null;
+            RuntimeException startupFailure = null;
+            try {
+                playwright = Playwright.create();
+                browser = launcher.apply(playwright);
+            } catch (RuntimeException e) {
+                // Keep draining the queue so callers get a failed future instead of waiting forever
+                logger.severe(getName() + " could not start its browser: " + e.getMessage());
+                startupFailure = e;
+            }
+
+            try {
+                for (Job<?> job = queue.take(); job != POISON; job = queue.take()) {
+                    if (startupFailure != null) {
+                        job.result().completeExceptionally(startupFailure);
+                        failed++;
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    job.run(browser);
+                    busyNanos += System.nanoTime() - start;
+                    if (job.result().isCompletedExceptionally()) {
+                        failed++;
+                    } else {
+                        completed++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (playwright != null) {
+                    playwright.close();   // also closes the browser
+                }
+                stoppedAt = System.nanoTime();
+            }
+        }
+
+        WorkerStats stats() {
+            long end = stoppedAt != 0 ? stoppedAt : System.nanoTime();
+            return new WorkerStats(getName(), completed, failed,
+                    TimeUnit.NANOSECONDS.toMillis(busyNanos),
+                    TimeUnit.NANOSECONDS.toMillis(end - startedAt));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package framework.parallel;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Common surface of the parallel execution modes.
+ * <p>
+ * The mode is picked per run with {@code -Dpw.executor=threads|virtual}:
+ * - {@code threads} (default): {@link ParallelExecutor}, one platform thread per browser
+ * - {@code virtual}: {@link VirtualThreadScheduler}, one virtual thread per scenario
+ *   multiplexed over a few browser lanes
+ */
+public interface ScenarioExecutor extends AutoCloseable {
+
+    <T> CompletableFuture<T> submit(BrowserTask<T> task);
+
+    List<WorkerStats> stats();
+
+    @Override
+    void close();
+
+    /**
+     * Create the executor selected by the {@code pw.executor} system property.
+     *
+     * @param browsers number of browsers (worker threads or lanes) to run
+     */
+    static ScenarioExecutor create(int browsers, Function<Playwright, Browser> launcher) {
+        String mode = System.getProperty("pw.executor", "threads");
+        return switch (mode) {
+            case "threads" -> new ParallelExecutor(browsers, Math.max(browsers * 4, 16), launcher);
+            case "virtual" -> new VirtualThreadScheduler(browsers, launcher);
+            default -> throw new IllegalArgumentException("Unknown pw.executor mode: " + mode);
+        };
+    }
+}
@@ -0,0 +1,157 @@
+package framework.parallel;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Runs every scenario on its own Java 21 virtual thread, multiplexed over a small number of
+ * browser "lanes". A lane is one {@link Playwright} + {@link Browser} pair.
+ * <p>
+ * Playwright's synchronous API allows only one thread at a time per Playwright instance.
+ * A scenario therefore leases a lane for as long as it runs and hands it back afterwards:
+ * - Thousands of queued scenarios cost a parked virtual thread each, not a platform thread
+ * - Waiting for a free lane parks the virtual thread instead of blocking a carrier
+ * - Handing a lane over through a {@link BlockingQueue} gives the next owner a consistent view
+ *   of the Playwright objects, which is the synchronization Playwright asks for
+ * <p>
+ * Playwright's driver pipe is read under monitors, which pins the carrier while a lane waits
+ * on the browser. Keep {@code lanes} at or below the number of carrier threads (CPU cores).
+ */
+public class VirtualThreadScheduler implements ScenarioExecutor {
+
+    private static final Logger logger = Logger.getLogger(VirtualThreadScheduler.class.getName());
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final BlockingQueue<Lane> freeLanes = new LinkedBlockingQueue<>();
+    private final List<Lane> lanes = new ArrayList<>();
+    private volatile boolean closed;
+
+    public VirtualThreadScheduler(int laneCount, Function<Playwright, Browser> launcher) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("laneCount must be at least 1 but was " + laneCount);
+        }
+        for (int i = 1; i <= laneCount; i++) {
+            Lane lane = new Lane("pw-lane-" + i, launcher);
+            lanes.add(lane);
+            freeLanes.add(lane);
+        }
+    }
+
+    /**
+     * Start a virtual thread for the task. Never blocks the caller.
+     */
+    @Override
+    public <T> CompletableFuture<T> submit(BrowserTask<T> task) {
+        if (closed) {
+            throw new IllegalStateException("Scheduler is closed");
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            Lane lane;
+            try {
+                lane = freeLanes.take();
+            } catch (InterruptedException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            try {
+                lane.run(task, result);
+            } finally {
+                freeLanes.add(lane);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public List<WorkerStats> stats() {
+        List<WorkerStats> stats = new ArrayList<>();
+        for (Lane lane : lanes) {
+            stats.add(lane.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Wait for every submitted scenario, then close all lanes.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        executor.close();
+        for (Lane lane : lanes) {
+            lane.close();
+        }
+        stats().forEach(s -> logger.info(s.toString()));
+    }
+
+    private static final class Lane {
+
+        private final String name;
+        private final Function<Playwright, Browser> launcher;
+        private final long startedAt = System.nanoTime();
+        private long stoppedAt;
+        private long busyNanos;
+        private int completed;
+        private int failed;
+        private Playwright playwright;
+        private Browser browser;
+
+        Lane(String name, Function<Playwright, Browser> launcher) {
+            this.name = name;
+            this.launcher = launcher;
+        }
+
+        <T> void run(BrowserTask<T> task, CompletableFuture<T> result) {
+            long start = System.nanoTime();
+            try {
+                if (browser == null || !browser.isConnected()) {
+                    start();
+                }
+                result.complete(task.run(browser));
+                completed++;
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                failed++;
+            } finally {
+                busyNanos += System.nanoTime() - start;
+            }
+        }
+
+        // Lazily started on the first scenario so unused lanes never spawn a driver
+        private void start() {
+            if (playwright == null) {
+                playwright = Playwright.create();
+            }
+            browser = launcher.apply(playwright);
+        }
+
+        void close() {
+            if (playwright != null) {
+                playwright.close();
+            }
+            stoppedAt = System.nanoTime();
+        }
+
+        WorkerStats stats() {
+            long end = stoppedAt != 0 ? stoppedAt : System.nanoTime();
+            return new WorkerStats(name, completed, failed,
+                    TimeUnit.NANOSECONDS.toMillis(busyNanos),
+                    TimeUnit.NANOSECONDS.toMillis(end - startedAt));
+        }
+    }
+}
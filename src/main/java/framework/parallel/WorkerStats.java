@@ -0,0 +1,27 @@
+package framework.parallel;
+
+/**
+ * Per-worker execution figures reported by the parallel executors.
+ */
+public record WorkerStats(String worker, int completed, int failed, long busyMillis, long aliveMillis) {
+
+    /**
+     * Tasks finished per second of worker lifetime (including launch and idle time).
+     */
+    public double throughput() {
+        return aliveMillis == 0 ? 0 : (completed + failed) * 1000.0 / aliveMillis;
+    }
+
+    /**
+     * Share of the worker lifetime spent running tasks.
+     */
+    public double utilization() {
+        return aliveMillis == 0 ? 0 : (double) busyMillis / aliveMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d ok, %d failed, %.2f tasks/s, %.0f%% busy",
+                worker, completed, failed, throughput(), utilization() * 100);
+    }
+}
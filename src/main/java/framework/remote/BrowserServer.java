@@ -0,0 +1,144 @@
+package framework.remote;
+
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.impl.driver.Driver;   // internal API, see driverProcess()
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+/**
+ * A Playwright browser server in its own process, the Java counterpart of Node's {@code launchServer}.
+ * <p>
+ * Runs {@code playwright run-server} from the driver bundled with playwright-java. Clients attach
+ * with {@code BrowserType.connect(server.wsEndpoint())}; every connection gets its own browser,
+ * launched inside the server process, so browser memory and crashes stay out of the test JVM.
+ * <pre>
+ *   try (BrowserServer server = BrowserServer.start()) {
+ *       Browser browser = playwright.chromium().connect(server.wsEndpoint());
+ *   }
+ * </pre>
+ */
+public class BrowserServer implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(BrowserServer.class.getName());
+    private static final long STARTUP_TIMEOUT_MS = 30_000;
+
+    private final Process process;
+    private final String wsEndpoint;
+
+    private BrowserServer(Process process, String wsEndpoint) {
+        this.process = process;
+        this.wsEndpoint = wsEndpoint;
+    }
+
+    /**
+     * Start a server on a free loopback port.
+     */
+    public static BrowserServer start() {
+        return start("127.0.0.1", freePort());
+    }
+
+    public static BrowserServer start(String host, int port) {
+        ProcessBuilder builder = driverProcess();
+        builder.command().addAll(List.of("run-server", "--port", String.valueOf(port), "--host", host));
+        builder.redirectErrorStream(true);
+
+        Process process;
+        try {
+            process = builder.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start Playwright browser server", e);
+        }
+
+        BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        CompletableFuture<String> listening = new CompletableFuture<>();
+        Thread reader = new Thread(() -> {
+            try {
+                for (String line = output.readLine(); line != null; line = output.readLine()) {
+                    int ws = line.indexOf("ws://");
+                    if (!listening.isDone() && line.startsWith("Listening on") && ws >= 0) {
+                        listening.complete(line.substring(ws).trim());
+                    } else {
+                        logger.fine("[run-server " + port + "] " + line);   // keep draining so the pipe never fills
+                    }
+                }
+            } catch (IOException ignored) {
+                // process gone
+            }
+            listening.completeExceptionally(new PlaywrightException("Browser server exited before listening"));
+        }, "browser-server-" + port);
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            String endpoint = listening.get(STARTUP_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            logger.info("🛰️ Browser server " + process.pid() + " listening on " + endpoint);
+            return new BrowserServer(process, endpoint);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new PlaywrightException("Interrupted while starting browser server");
+        } catch (ExecutionException | TimeoutException e) {
+            process.destroyForcibly();
+            throw new PlaywrightException("Browser server on port " + port + " did not start: " + e);
+        }
+    }
+
+    public String wsEndpoint() {
+        return wsEndpoint;
+    }
+
+    public long pid() {
+        return process.pid();
+    }
+
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    @Override
+    public void close() {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        try {
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+    }
+
+    /**
+     * A process builder for the Playwright CLI of the driver bundled with playwright-java.
+     * <p>
+     * The only use of {@code com.microsoft.playwright.impl}, which has no stability guarantee:
+     * written against playwright-java 1.52.0 ({@code Driver.ensureDriverInstalled(Map, Boolean)}
+     * and {@code Driver.createProcessBuilder()}). Re-check this method when upgrading Playwright.
+     */
+    private static ProcessBuilder driverProcess() {
+        return Driver.ensureDriverInstalled(Collections.emptyMap(), false).createProcessBuilder();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No free loopback port", e);
+        }
+    }
+}
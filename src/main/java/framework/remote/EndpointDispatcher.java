@@ -0,0 +1,168 @@
+package framework.remote;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import framework.config.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Hands out remote browsers from several {@link BrowserServer} endpoints, least-loaded first.
+ * <p>
+ * Load is the number of connected browsers per endpoint; it drops again when a browser
+ * disconnects (closed by the test, or its worker's Playwright closed). Ties go to the endpoint
+ * that has served the fewest connections so far.
+ * <pre>
+ *   try (EndpointDispatcher dispatcher = EndpointDispatcher.local(2);
+ *        ScenarioExecutor executor = ScenarioExecutor.create(4, dispatcher.launcher())) {
+ *       ...
+ *   }
+ * </pre>
+ * {@link #fromSystemProperty()} reads {@code -Dpw.remote}: a number starts that many loopback
+ * servers, a comma-separated list of {@code ws://} URLs uses servers running elsewhere.
+ */
+public class EndpointDispatcher implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(EndpointDispatcher.class.getName());
+
+    private final List<BrowserServer> owned;
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    public EndpointDispatcher(List<String> wsEndpoints) {
+        this(wsEndpoints, List.of());
+    }
+
+    private EndpointDispatcher(List<String> wsEndpoints, List<BrowserServer> owned) {
+        if (wsEndpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint is required");
+        }
+        wsEndpoints.forEach(url -> endpoints.put(url, new Endpoint(url)));
+        this.owned = owned;
+    }
+
+    /**
+     * Start {@code servers} browser servers on loopback, closed together with the dispatcher.
+     */
+    public static EndpointDispatcher local(int servers) {
+        if (servers < 1) {
+            throw new IllegalArgumentException("At least one browser server is required, got " + servers);
+        }
+        List<BrowserServer> started = new ArrayList<>();
+        try {
+            for (int i = 0; i < servers; i++) {
+                started.add(BrowserServer.start());
+            }
+        } catch (RuntimeException e) {
+            started.forEach(BrowserServer::close);
+            throw e;
+        }
+        return new EndpointDispatcher(started.stream().map(BrowserServer::wsEndpoint).toList(), started);
+    }
+
+    public static EndpointDispatcher fromSystemProperty() {
+        String remote = System.getProperty("pw.remote", "2").trim();
+        if (!remote.isEmpty() && remote.chars().allMatch(Character::isDigit)) {
+            int servers = remote.length() > 3 ? 0 : Integer.parseInt(remote);   // "0" and absurd counts alike
+            if (servers < 1) {
+                throw invalidRemote(remote);
+            }
+            return local(servers);
+        }
+        List<String> urls = Arrays.stream(remote.split(",")).map(String::trim).toList();
+        if (urls.stream().anyMatch(url -> !url.startsWith("ws://") && !url.startsWith("wss://"))) {
+            throw invalidRemote(remote);
+        }
+        return new EndpointDispatcher(urls);
+    }
+
+    private static IllegalArgumentException invalidRemote(String value) {
+        return new IllegalArgumentException("-Dpw.remote must be a number of local servers (1-999) or a "
+                + "comma-separated list of ws:// endpoints, got '" + value + "'");
+    }
+
+    /**
+     * Connect a Chromium browser on the least-loaded endpoint.
+     */
+    public Browser connect(Playwright playwright) {
+        Endpoint endpoint;
+        synchronized (this) {
+            endpoint = endpoints.values().stream()
+                    .min(Comparator.comparingInt(Endpoint::active).thenComparingInt(Endpoint::served))
+                    .orElseThrow();
+            endpoint.active++;
+            endpoint.served++;
+        }
+        try {
+            boolean headless = Boolean.TRUE.equals(ExecutionMode.current().launchOptions().headless);
+            Browser browser = playwright.chromium().connect(endpoint.url, new BrowserType.ConnectOptions()
+                    .setHeaders(Map.of("x-playwright-launch-options", "{\"headless\":" + headless + "}")));
+            browser.onDisconnected(b -> released(endpoint));
+            logger.fine("Connected " + Thread.currentThread().getName() + " to " + endpoint.url);
+            return browser;
+        } catch (RuntimeException e) {
+            released(endpoint);
+            throw e;
+        }
+    }
+
+    /**
+     * Launcher for {@code ScenarioExecutor.create}, {@code MatrixRunner} and friends.
+     */
+    public Function<Playwright, Browser> launcher() {
+        return this::connect;
+    }
+
+    /**
+     * Connected browsers per endpoint right now.
+     */
+    public synchronized Map<String, Integer> load() {
+        Map<String, Integer> load = new LinkedHashMap<>();
+        endpoints.forEach((url, endpoint) -> load.put(url, endpoint.active));
+        return load;
+    }
+
+    /**
+     * Connections served per endpoint since the dispatcher was created.
+     */
+    public synchronized Map<String, Integer> served() {
+        Map<String, Integer> served = new LinkedHashMap<>();
+        endpoints.forEach((url, endpoint) -> served.put(url, endpoint.served));
+        return served;
+    }
+
+    @Override
+    public void close() {
+        owned.forEach(BrowserServer::close);
+    }
+
+    private synchronized void released(Endpoint endpoint) {
+        endpoint.active = Math.max(0, endpoint.active - 1);
+    }
+
+    private static final class Endpoint {
+
+        final String url;
+        int active;
+        int served;
+
+        Endpoint(String url) {
+            this.url = url;
+        }
+
+        int active() {
+            return active;
+        }
+
+        int served() {
+            return served;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package framework.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Embedded HTTP server for synthetic stand-ins of the remote pages the suites visit.
+ * <p>
+ * The pages are hand-written, not captured from the real sites: they only reproduce the markup
+ * and behaviour the suites rely on (element ids, the toolshop's product search, the login flows).
+ * Local runs therefore check the suites against these stand-ins; run with
+ * {@code -Dpw.fixtures=remote} to check them against the real sites.
+ * <p>
+ * Every fixture host gets its own loopback port, so root-relative links such as
+ * {@code href="/login"} keep working exactly as on the real site:
+ * <pre>
+ *   https://the-internet.herokuapp.com/login  →  http://127.0.0.1:&lt;port&gt;/login
+ * </pre>
+ * Pages are read from the classpath under {@code fixtures/<host>/}:
+ * - {@code /} serves {@code index.html}
+ * - {@code /login} serves {@code login.html} (extension-less paths are pages)
+ * - Anything under {@code /download/} is sent as an attachment, like the real download page
+ * <p>
+ * Hosts with an {@code auth.properties} fixture also get a fake form login: {@code POST /authenticate}
+ * checks the {@code user.<name>=<password>} entries, sets a {@code session-<host>} cookie and
+ * redirects to {@code success} (or back to {@code failure}); pages under {@code protected} redirect
+ * to {@code failure} without that cookie. Browsers key cookies by domain, not port, so every fixture
+ * host sees the others' cookies on 127.0.0.1; the host in the name keeps each host's login its own.
+ * Session tokens are derived from the credentials, so a saved storage state stays valid across runs.
+ */
+public class FixtureServer implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(FixtureServer.class.getName());
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "json", "application/json",
+            "txt", "text/plain; charset=utf-8",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "svg", "image/svg+xml");
+
+    private final String resourceRoot;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, HttpServer> servers = new LinkedHashMap<>();
+    private final Map<String, Properties> auth = new ConcurrentHashMap<>();
+
+    public FixtureServer(String resourceRoot, Iterable<String> hosts) {
+        this.resourceRoot = resourceRoot.endsWith("/") ? resourceRoot : resourceRoot + "/";
+        try {
+            for (String host : hosts) {
+                HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+                server.createContext("/", exchange -> serve(host, exchange));
+                server.setExecutor(executor);
+                server.start();
+                servers.put(host, server);
+                logger.fine("Serving fixtures for " + host + " on " + baseUrl(host));
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Could not start fixture server", e);
+        }
+    }
+
+    public Map<String, HttpServer> servers() {
+        return Collections.unmodifiableMap(servers);
+    }
+
+    public boolean serves(String host) {
+        return servers.containsKey(host);
+    }
+
+    public String baseUrl(String host) {
+        HttpServer server = servers.get(host);
+        if (server == null) {
+            throw new IllegalArgumentException("No fixtures for host: " + host);
+        }
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Point a remote URL at its local copy. URLs of hosts without fixtures are returned unchanged.
+     */
+    public String rewrite(String url) {
+        URI uri = URI.create(url);
+        if (uri.getHost() == null || !serves(uri.getHost())) {
+            return url;
+        }
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery();
+        return baseUrl(uri.getHost()) + path + query;
+    }
+
+    /**
+     * The reverse of {@link #rewrite}: point a loopback URL back at its remote host (as https).
+     * Other URLs are returned unchanged.
+     */
+    public String original(String url) {
+        for (String host : servers.keySet()) {
+            String base = baseUrl(host);
+            if (url.equals(base) || url.startsWith(base + "/") || url.startsWith(base + "?")) {
+                return "https://" + host + url.substring(base.length());
+            }
+        }
+        return url;
+    }
+
+    @Override
+    public void close() {
+        servers.values().forEach(server -> server.stop(0));
+        servers.clear();
+        executor.shutdownNow();
+    }
+
+    private void serve(String host, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Properties login = auth(host);
+            if (login != null && path.equals("/authenticate") && "POST".equals(exchange.getRequestMethod())) {
+                authenticate(host, login, exchange);
+                return;
+            }
+            if (login != null && path.startsWith(login.getProperty("protected", "/secure"))
+                    && !hasSession(host, login, exchange)) {
+                redirect(exchange, login.getProperty("failure", "/login"));
+                return;
+            }
+            String resource = resourceRoot + host + resolve(path);
+            try (InputStream in = FixtureServer.class.getClassLoader().getResourceAsStream(resource)) {
+                if (in == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                byte[] body = in.readAllBytes();
+                String extension = resource.substring(resource.lastIndexOf('.') + 1);
+                exchange.getResponseHeaders().add("Content-Type",
+                        CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+                if (path.startsWith("/download/")) {
+                    exchange.getResponseHeaders().add("Content-Disposition",
+                            "attachment; filename=\"" + path.substring(path.lastIndexOf('/') + 1) + "\"");
+                }
+                exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+                if (body.length > 0) {
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                }
+            }
+        }
+    }
+
+    private Properties auth(String host) {
+        Properties properties = auth.computeIfAbsent(host, this::loadAuth);
+        return properties.isEmpty() ? null : properties;
+    }
+
+    private Properties loadAuth(String host) {
+        Properties properties = new Properties();
+        try (InputStream in = FixtureServer.class.getClassLoader()
+                .getResourceAsStream(resourceRoot + host + "/auth.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    private static void authenticate(String host, Properties login, HttpExchange exchange) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        for (String pair : body.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        String user = form.getOrDefault("username", form.getOrDefault("email", ""));
+        String password = login.getProperty("user." + user);
+        if (password == null || !password.equals(form.get("password"))) {
+            redirect(exchange, login.getProperty("failure", "/login"));
+            return;
+        }
+        exchange.getResponseHeaders().add("Set-Cookie",
+                sessionCookie(host) + "=" + token(user, password) + "; Path=/; HttpOnly");
+        redirect(exchange, login.getProperty("success", "/secure"));
+    }
+
+    private static boolean hasSession(String host, Properties login, HttpExchange exchange) {
+        List<String> cookies = exchange.getRequestHeaders().getOrDefault("Cookie", List.of()).stream()
+                .flatMap(header -> Arrays.stream(header.split(";")))
+                .map(String::trim)
+                .toList();
+        return login.stringPropertyNames().stream()
+                .filter(key -> key.startsWith("user."))
+                .map(key -> sessionCookie(host) + "=" + token(key.substring("user.".length()), login.getProperty(key)))
+                .anyMatch(cookies::contains);
+    }
+
+    private static String sessionCookie(String host) {
+        return "session-" + host;
+    }
+
+    private static String token(String user, String password) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(303, -1);
+    }
+
+    /**
+     * The fixture file for a decoded request path; any {@code ..} segment maps to a missing file.
+     */
+    static String resolve(String path) {
+        if (path.contains("..")) {
+            return "/__invalid__";   // checked first: "/../" would otherwise pass as a directory
+        }
+        if (path.isEmpty() || path.endsWith("/")) {
+            return path + (path.isEmpty() ? "/" : "") + "index.html";
+        }
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        return name.contains(".") ? path : path + ".html";
+    }
+}
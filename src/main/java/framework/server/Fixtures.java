@@ -0,0 +1,73 @@
+package framework.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * URL rewrite layer between the suites and {@link FixtureServer}.
+ * <p>
+ * Tests wrap every remote URL: {@code page.navigate(Fixtures.url("https://example.com/"))}.
+ * - Default ({@code -Dpw.fixtures=local}): fixture hosts are served from loopback and the
+ *   suite runs offline, against hand-written stand-ins of their pages (see {@link FixtureServer})
+ * - {@code -Dpw.fixtures=remote}: URLs are returned unchanged and hit the real sites
+ * <p>
+ * Fixture hosts are listed in {@code fixtures/hosts.txt} on the test classpath. The server is
+ * started on first use and lives for the rest of the JVM.
+ */
+public final class Fixtures {
+
+    private static final String ROOT = "fixtures/";
+
+    private Fixtures() {
+    }
+
+    public static boolean local() {
+        return !"remote".equalsIgnoreCase(System.getProperty("pw.fixtures", "local"));
+    }
+
+    public static String url(String remoteUrl) {
+        return local() ? Holder.SERVER.rewrite(remoteUrl) : remoteUrl;
+    }
+
+    /**
+     * The reverse of {@link #url}: a loopback fixture URL as the remote URL it stands for.
+     */
+    public static String remoteUrl(String url) {
+        return local() ? Holder.SERVER.original(url) : url;
+    }
+
+    public static FixtureServer server() {
+        return Holder.SERVER;
+    }
+
+    // Lazy holder: tests running with pw.fixtures=remote never start the server
+    private static final class Holder {
+
+        static final FixtureServer SERVER = start();
+
+        private static FixtureServer start() {
+            FixtureServer server = new FixtureServer(ROOT, fixtureHosts());
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "fixture-server-shutdown"));
+            return server;
+        }
+
+        private static List<String> fixtureHosts() {
+            try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(ROOT + "hosts.txt")) {
+                if (in == null) {
+                    return List.of();
+                }
+                return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
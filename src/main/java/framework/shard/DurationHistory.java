@@ -0,0 +1,134 @@
+package framework.shard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Per-test durations from previous runs, as input for {@link ShardPlanner}.
+ * <p>
+ * One line per test invocation in {@code .test-history/durations.tsv}:
+ * {@code <class>#<method>(<parameter types>)[<invocation>] TAB <millis> TAB <runs>}. The parameter
+ * types keep overloads apart; the invocation index (only for data-provider and parameterized
+ * tests) keeps each data row apart. A new measurement is blended into the stored value
+ * (exponential moving average, weight 0.5), so one slow run does not reshuffle every shard.
+ * Recorders: {@code framework.testng.DurationRecorder} and {@code framework.junit.DurationRecorderExtension}.
+ */
+public class DurationHistory {
+
+    public static final Path DEFAULT_FILE = Paths.get(".test-history", "durations.tsv");
+    private static final double WEIGHT = 0.5;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    public static DurationHistory load() {
+        return load(Paths.get(System.getProperty("pw.durations", DEFAULT_FILE.toString())));
+    }
+
+    public static DurationHistory load(Path file) {
+        DurationHistory history = new DurationHistory(file);
+        if (Files.exists(file)) {
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    String[] columns = line.split("\t");
+                    if (columns.length == 3 && !line.startsWith("#")) {
+                        history.entries.put(columns[0],
+                                new Entry(Long.parseLong(columns[1]), Integer.parseInt(columns[2])));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                throw new IllegalStateException("Unreadable duration history " + file + ": " + e.getMessage(), e);
+            }
+        }
+        return history;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * @param invocation index of the data row for data-provider/parameterized tests, -1 otherwise
+     */
+    public void record(String testClass, Method method, int invocation, long millis) {
+        entries.merge(key(testClass, method, invocation), new Entry(millis, 1), (old, measured) -> new Entry(
+                Math.round(old.millis() * (1 - WEIGHT) + measured.millis() * WEIGHT), old.runs() + 1));
+    }
+
+    /**
+     * Stored duration of one test method, all its invocations together, or -1 when it has never
+     * been recorded.
+     */
+    public long millis(String testClass, Method method) {
+        String prefix = key(testClass, method, -1);
+        long total = -1;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals(prefix) || key.startsWith(prefix + "[")) {
+                total = Math.max(total, 0) + entry.getValue().millis();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Median of all stored durations: the estimate for tests without history (10 s if there is none).
+     */
+    public long typicalMillis() {
+        List<Long> all = new ArrayList<>(entries.values().stream().map(Entry::millis).sorted().toList());
+        return all.isEmpty() ? 10_000 : all.get(all.size() / 2);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Merge with what is on disk (another fork may have written meanwhile) and write atomically.
+     */
+    public synchronized void save() {
+        DurationHistory onDisk = load(file);
+        Map<String, Entry> merged = new TreeMap<>(onDisk.entries);
+        entries.forEach((key, entry) -> merged.merge(key, entry,
+                (disk, mine) -> mine.runs() >= disk.runs() ? mine : disk));
+        StringBuilder text = new StringBuilder("# test\tmillis\truns\n");
+        merged.forEach((key, entry) -> text.append(key).append('\t').append(entry.millis())
+                .append('\t').append(entry.runs()).append('\n'));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path part = file.resolveSibling(file.getFileName() + "." + ProcessHandle.current().pid() + ".part");
+            Files.writeString(part, text, StandardCharsets.UTF_8);
+            Files.move(part, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write duration history " + file, e);
+        }
+    }
+
+    static String key(String testClass, Method method, int invocation) {
+        String parameters = Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(","));
+        return testClass + "#" + method.getName() + "(" + parameters + ")"
+                + (invocation >= 0 ? "[" + invocation + "]" : "");
+    }
+
+    private record Entry(long millis, int runs) {
+    }
+}
@@ -0,0 +1,207 @@
+package framework.shard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Splits the suites into N shards of similar duration, for N surefire forks or CI agents.
+ * <p>
+ * Classes are the unit: TestNG suites share {@code @BeforeSuite} state and order their methods by
+ * priority, and JUnit classes share {@code @BeforeAll} state, so a class never spans two shards.
+ * A class is estimated as the sum of its tests' {@link DurationHistory} values (the typical
+ * duration for tests without history) and classes are assigned longest-processing-time first:
+ * the longest remaining class always goes to the currently shortest shard.
+ * <p>
+ * Run after {@code test-compile}:
+ * <pre>
+ *   mvn test-compile exec:java -Dexec.mainClass=framework.shard.ShardPlanner -Dexec.args="4 [package] [outDir]"
+ *   mvn test -Dtestng.suite=target/shards/shard-1.xml -Djunit.tests="$(cat target/shards/shard-1.junit.txt)"
+ * </pre>
+ * Writes {@code shard-<n>.xml} (TestNG suite) and {@code shard-<n>.junit.txt} (the shard's JUnit
+ * classes as a regex for the pom's {@code junit.tests} include) per shard. Surefire runs both
+ * providers in one fork; {@code -Dtest=} would override the TestNG suite file, so it is not used.
+ */
+public class ShardPlanner {
+
+    public record TestClass(String name, boolean testng, int tests, long estimatedMillis) {
+    }
+
+    public record Shard(int index, List<TestClass> classes, long estimatedMillis) {
+
+        public List<String> testngClasses() {
+            return classes.stream().filter(TestClass::testng).map(TestClass::name).toList();
+        }
+
+        public List<String> junitClasses() {
+            return classes.stream().filter(c -> !c.testng()).map(TestClass::name).toList();
+        }
+    }
+
+    private final DurationHistory history;
+
+    public ShardPlanner(DurationHistory history) {
+        this.history = history;
+    }
+
+    /**
+     * Estimate a test class from its methods annotated with TestNG's or JUnit's {@code @Test}.
+     */
+    public TestClass estimate(Class<?> type) {
+        boolean testng = false;
+        int tests = 0;
+        long millis = 0;
+        for (Method method : type.getDeclaredMethods()) {
+            String annotation = Arrays.stream(method.getAnnotations())
+                    .map(a -> a.annotationType().getName())
+                    .filter(name -> name.equals("org.testng.annotations.Test") || name.equals("org.junit.jupiter.api.Test"))
+                    .findFirst().orElse(null);
+            if (annotation == null) {
+                continue;
+            }
+            testng |= annotation.startsWith("org.testng");
+            tests++;
+            long known = history.millis(type.getName(), method);
+            millis += known >= 0 ? known : history.typicalMillis();
+        }
+        return new TestClass(type.getName(), testng, tests, millis);
+    }
+
+    /**
+     * Longest-processing-time-first assignment of the classes to {@code count} shards.
+     */
+    public List<Shard> plan(List<TestClass> classes, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, got " + count);
+        }
+        List<List<TestClass>> members = new ArrayList<>();
+        long[] totals = new long[count];
+        PriorityQueue<Integer> shortest = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(i -> totals[i]).thenComparingInt(i -> i));
+        for (int i = 0; i < count; i++) {
+            members.add(new ArrayList<>());
+            shortest.add(i);
+        }
+        classes.stream()
+                .sorted(Comparator.comparingLong(TestClass::estimatedMillis).reversed().thenComparing(TestClass::name))
+                .forEach(testClass -> {
+                    int shard = shortest.poll();
+                    members.get(shard).add(testClass);
+                    totals[shard] += testClass.estimatedMillis();
+                    shortest.add(shard);
+                });
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            members.get(i).sort(Comparator.comparing(TestClass::name));   // stable, readable suite files
+            shards.add(new Shard(i + 1, members.get(i), totals[i]));
+        }
+        return shards;
+    }
+
+    public static void write(List<Shard> shards, Path outDir) throws IOException {
+        Files.createDirectories(outDir);
+        for (Shard shard : shards) {
+            StringBuilder xml = new StringBuilder()
+                    .append("<!DOCTYPE suite SYSTEM \"https://testng.org/testng-1.0.dtd\">\n")
+                    .append("<!-- Generated by ShardPlanner: estimated ").append(shard.estimatedMillis() / 1000)
+                    .append(" s -->\n")
+                    .append("<suite name=\"practice-shard-").append(shard.index()).append("\">\n")
+                    .append("    <listeners>\n")
+                    .append("        <listener class-name=\"framework.testng.DurationRecorder\"/>\n")
+                    .append("        <listener class-name=\"framework.testng.TelemetryListener\"/>\n")
+                    .append("    </listeners>\n")
+                    .append("    <test name=\"shard-").append(shard.index()).append("\" preserve-order=\"true\">\n")
+                    .append("        <classes>\n");
+            shard.testngClasses().forEach(name -> xml.append("            <class name=\"").append(name).append("\"/>\n"));
+            xml.append("        </classes>\n")
+                    .append("    </test>\n")
+                    .append("</suite>\n");
+            Files.writeString(outDir.resolve("shard-" + shard.index() + ".xml"), xml, StandardCharsets.UTF_8);
+            Files.writeString(outDir.resolve("shard-" + shard.index() + ".junit.txt"),
+                    junitInclude(shard.junitClasses()) + "\n", StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Surefire include regex (over class file paths) for exactly these classes; matches nothing
+     * for a shard without JUnit classes.
+     */
+    static String junitInclude(List<String> classes) {
+        if (classes.isEmpty()) {
+            return "(?!)";
+        }
+        return classes.stream()
+                .map(name -> name.replace('.', '/') + "\\..*")   // .class file, or .java in older matchers
+                .collect(Collectors.joining("|"));
+    }
+
+    /**
+     * Test classes of a package, found in the classpath directories (not jars).
+     */
+    public static List<Class<?>> discover(String packageName) throws IOException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        List<Class<?>> classes = new ArrayList<>();
+        for (URL url : Collections.list(loader.getResources(packageName.replace('.', '/')))) {
+            if (!"file".equals(url.getProtocol())) {
+                continue;
+            }
+            Path dir;
+            try {
+                dir = Paths.get(url.toURI());
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".class") && !f.toString().contains("$")).toList()) {
+                    String name = packageName + "." + file.getFileName().toString().replace(".class", "");
+                    try {
+                        classes.add(Class.forName(name, false, loader));
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        throw new IllegalStateException("Could not load " + name, e);
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        String packageName = args.length > 1 ? args[1] : "practice";
+        Path outDir = Paths.get(args.length > 2 ? args[2] : "target/shards");
+
+        DurationHistory history = DurationHistory.load();
+        ShardPlanner planner = new ShardPlanner(history);
+        List<TestClass> classes = discover(packageName).stream()
+                .map(planner::estimate)
+                .filter(testClass -> testClass.tests() > 0)
+                .toList();
+        List<Shard> shards = planner.plan(classes, count);
+        write(shards, outDir);
+
+        System.out.println((history.isEmpty() ? "No duration history yet, every test estimated at "
+                + history.typicalMillis() + " ms" : "Estimates from " + history.file()));
+        Map<Integer, String> summary = new TreeMap<>(shards.stream().collect(Collectors.toMap(Shard::index,
+                shard -> String.format("%6d s  %s", shard.estimatedMillis() / 1000,
+                        shard.classes().stream().map(TestClass::name).collect(Collectors.joining(", "))))));
+        summary.forEach((index, line) -> System.out.println("shard-" + index + " " + line));
+        System.out.println("Suites written to " + outDir.toAbsolutePath());
+    }
+}
@@ -0,0 +1,38 @@
+package framework.telemetry;
+
+import java.util.Locale;
+
+/**
+ * One telemetry row: timings and resource usage of a single page right after it loaded.
+ * Values that could not be measured are -1.
+ */
+public record PageSample(long timestamp,
+                         String test,
+                         String url,
+                         double ttfbMs,
+                         double domContentLoadedMs,
+                         double loadMs,
+                         double firstPaintMs,
+                         double firstContentfulPaintMs,
+                         long transferBytes,
+                         long jsHeapUsedBytes,
+                         long domNodes,
+                         double scriptDurationMs,
+                         double taskDurationMs,
+                         long browserRssBytes) {
+
+    public static final String CSV_HEADER = "timestamp,test,url,ttfb_ms,dom_content_loaded_ms,load_ms,"
+            + "first_paint_ms,first_contentful_paint_ms,transfer_bytes,js_heap_used_bytes,dom_nodes,"
+            + "script_duration_ms,task_duration_ms,browser_rss_bytes";
+
+    public String toCsv() {
+        return String.format(Locale.ROOT, "%d,%s,%s,%.1f,%.1f,%.1f,%.1f,%.1f,%d,%d,%d,%.1f,%.1f,%d",
+                timestamp, quote(test), quote(url), ttfbMs, domContentLoadedMs, loadMs, firstPaintMs,
+                firstContentfulPaintMs, transferBytes, jsHeapUsedBytes, domNodes, scriptDurationMs,
+                taskDurationMs, browserRssBytes);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
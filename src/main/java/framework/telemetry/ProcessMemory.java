@@ -0,0 +1,106 @@
+package framework.telemetry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resident memory of the browser processes started by this JVM.
+ * <p>
+ * Browsers are children of the Playwright driver, which is a child of the JVM, so every browser
+ * process shows up among {@link ProcessHandle#descendants()}. RSS is read from
+ * {@code /proc/<pid>/status}; on systems without procfs the methods return -1.
+ * <p>
+ * To measure one browser rather than all of them, list {@link #browserPids()} before launching
+ * it and pass that set to {@link #newBrowserRoots} afterwards; {@link #treeRssBytes} then sums
+ * those processes and everything they spawn later (renderers included).
+ */
+public final class ProcessMemory {
+
+    private static final List<String> BROWSER_BINARIES = List.of(
+            "chrome", "chromium", "headless_shell", "msedge", "firefox", "webkit", "minibrowser");
+
+    private ProcessMemory() {
+    }
+
+    /**
+     * Total RSS in bytes of all browser processes (renderers, GPU and utility processes included).
+     */
+    public static long browserRssBytes() {
+        if (!Files.isDirectory(Paths.get("/proc"))) {
+            return -1;
+        }
+        return ProcessHandle.current().descendants()
+                .filter(ProcessMemory::isBrowser)
+                .mapToLong(process -> Math.max(rssBytes(process.pid()), 0))
+                .sum();
+    }
+
+    /**
+     * Browser processes currently running under this JVM.
+     */
+    public static Set<Long> browserPids() {
+        return ProcessHandle.current().descendants()
+                .filter(ProcessMemory::isBrowser)
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Browser processes started since {@code before} was taken, without their own children: the
+     * main process of each browser launched in between. Launches on other threads in the same
+     * window are included too.
+     */
+    public static Set<Long> newBrowserRoots(Set<Long> before) {
+        Set<Long> started = browserPids();
+        started.removeAll(before);
+        return started.stream()
+                .filter(pid -> ProcessHandle.of(pid)
+                        .flatMap(ProcessHandle::parent)
+                        .map(parent -> !started.contains(parent.pid()))
+                        .orElse(false))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Total RSS in bytes of the given processes and all their current descendants.
+     */
+    public static long treeRssBytes(Collection<Long> roots) {
+        if (!Files.isDirectory(Paths.get("/proc"))) {
+            return -1;
+        }
+        return roots.stream()
+                .flatMap(pid -> ProcessHandle.of(pid).stream())
+                .flatMap(root -> Stream.concat(Stream.of(root), root.descendants()))
+                .mapToLong(process -> Math.max(rssBytes(process.pid()), 0))
+                .sum();
+    }
+
+    public static long rssBytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    // "VmRSS:     123456 kB"
+                    String kb = line.substring("VmRSS:".length()).replace("kB", "").trim();
+                    return Long.parseLong(kb) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // process exited between listing and reading
+        }
+        return -1;
+    }
+
+    private static boolean isBrowser(ProcessHandle process) {
+        String command = process.info().command().orElse("").toLowerCase(Locale.ROOT);
+        String binary = command.substring(command.lastIndexOf('/') + 1);
+        return BROWSER_BINARIES.stream().anyMatch(binary::contains);
+    }
+}
@@ -0,0 +1,300 @@
+package framework.telemetry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Per-test performance telemetry, one CSV row per page load:
+ * - Navigation Timing and Paint Timing read from the page
+ * - CDP {@code Performance.getMetrics} (JS heap, DOM nodes, script/task time) on Chromium
+ * - RSS of the browser processes ({@link ProcessMemory})
+ * <p>
+ * Hooked in without touching the suites:
+ * - {@link #instrument} wraps the registry's {@link Playwright}: every context opened through a
+ *   browser it launches ({@code newContext}, {@code newPage}, {@code launchPersistentContext}) is
+ *   {@link #attach attached}, and each page load in it is sampled
+ * - The test listeners ({@code framework.testng.TelemetryListener},
+ *   {@code framework.junit.TelemetryExtension}) name the test running on each thread through
+ *   {@link #begin}/{@link #end}; loads outside a test (suite setup, logins) are not sampled
+ * <p>
+ * Playwright instances created elsewhere (the parallel executors' workers) are not instrumented.
+ * Rows go to {@code target/telemetry/run-<timestamp>.csv}. Disable per run with
+ * {@code -Dpw.telemetry=off}, which also leaves the registry's Playwright unwrapped.
+ */
+public class TelemetryCollector {
+
+    private static final Logger logger = Logger.getLogger(TelemetryCollector.class.getName());
+
+    private static final TelemetryCollector RUN = new TelemetryCollector(Paths.get("target", "telemetry",
+            "run-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv"));
+
+    private static final String TIMINGS = """
+            () => {
+                const nav = performance.getEntriesByType('navigation')[0];
+                const paint = Object.fromEntries(performance.getEntriesByType('paint').map(e => [e.name, e.startTime]));
+                return {
+                    ttfb: nav ? nav.responseStart - nav.requestStart : -1,
+                    domContentLoaded: nav ? nav.domContentLoadedEventEnd : -1,
+                    load: nav ? nav.loadEventEnd : -1,
+                    transferSize: nav ? nav.transferSize : -1,
+                    firstPaint: paint['first-paint'] ?? -1,
+                    firstContentfulPaint: paint['first-contentful-paint'] ?? -1
+                };
+            }
+            """;
+
+    private final Path output;
+    private final boolean enabled = !"off".equalsIgnoreCase(System.getProperty("pw.telemetry", "on"));
+    private final Set<BrowserContext> attached = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+    private final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private boolean headerWritten;
+
+    public TelemetryCollector(Path output) {
+        this.output = output;
+    }
+
+    /**
+     * Collector shared by all suites in this JVM, writing one file per run.
+     */
+    public static TelemetryCollector forRun() {
+        return RUN;
+    }
+
+    public Path output() {
+        return output;
+    }
+
+    /**
+     * The test now running on this thread; page loads are sampled under its name until {@link #end}.
+     */
+    public void begin(String test) {
+        currentTest.set(test);
+    }
+
+    public void end() {
+        currentTest.remove();
+    }
+
+    /**
+     * Sample every page load in the context that happens while a test runs on the loading thread.
+     */
+    public void attach(BrowserContext context) {
+        if (!enabled || !attached.add(context)) {
+            return;
+        }
+        context.pages().forEach(this::watch);
+        context.onPage(this::watch);
+        context.onClose(attached::remove);
+    }
+
+    /**
+     * The given Playwright, with every context its browsers open {@link #attach attached};
+     * returned as is when telemetry is off.
+     */
+    public Playwright instrument(Playwright playwright) {
+        if (!enabled) {
+            return playwright;
+        }
+        return wrap(Playwright.class, playwright, (method, result) ->
+                result instanceof BrowserType type ? wrap(BrowserType.class, type, this::launched) : result);
+    }
+
+    /**
+     * Sample one page now and append the row to the run file.
+     */
+    public PageSample sample(Page page, String test) {
+        Map<String, Double> timings = timings(page);
+        Map<String, Double> metrics = cdpMetrics(page);
+        PageSample sample = new PageSample(
+                System.currentTimeMillis(),
+                test,
+                page.url(),
+                timings.getOrDefault("ttfb", -1.0),
+                timings.getOrDefault("domContentLoaded", -1.0),
+                timings.getOrDefault("load", -1.0),
+                timings.getOrDefault("firstPaint", -1.0),
+                timings.getOrDefault("firstContentfulPaint", -1.0),
+                timings.getOrDefault("transferSize", -1.0).longValue(),
+                metrics.getOrDefault("JSHeapUsedSize", -1.0).longValue(),
+                metrics.getOrDefault("Nodes", -1.0).longValue(),
+                metrics.containsKey("ScriptDuration") ? metrics.get("ScriptDuration") * 1000 : -1,
+                metrics.containsKey("TaskDuration") ? metrics.get("TaskDuration") * 1000 : -1,
+                ProcessMemory.browserRssBytes());
+        if (enabled) {
+            write(sample);
+        }
+        return sample;
+    }
+
+    private void watch(Page page) {
+        page.onLoad(loaded -> {
+            String test = currentTest.get();
+            if (test != null) {
+                sample(loaded, test);
+            }
+        });
+    }
+
+    private Object launched(Method method, Object result) {
+        if (result instanceof Browser browser) {
+            return wrap(Browser.class, browser, this::opened);
+        }
+        return opened(method, result);   // launchPersistentContext
+    }
+
+    private Object opened(Method method, Object result) {
+        if (result instanceof BrowserContext context) {
+            attach(context);
+        } else if (result instanceof Page page) {
+            attach(page.context());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target, BiFunction<Method, Object, Object> afterCall) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new Forwarding(target, afterCall));
+    }
+
+    private static Map<String, Double> timings(Page page) {
+        Map<String, Double> timings = new HashMap<>();
+        try {
+            Object result = page.evaluate(TIMINGS);
+            if (result instanceof Map<?, ?> values) {
+                values.forEach((key, value) -> {
+                    if (value instanceof Number number) {
+                        timings.put(key.toString(), number.doubleValue());
+                    }
+                });
+            }
+        } catch (PlaywrightException e) {
+            logger.fine("Navigation timing unavailable for " + page.url() + ": " + e.getMessage());
+        }
+        return timings;
+    }
+
+    private static Map<String, Double> cdpMetrics(Page page) {
+        Map<String, Double> metrics = new HashMap<>();
+        Browser browser = page.context().browser();
+        if (browser == null || !"chromium".equals(browser.browserType().name())) {
+            return metrics;
+        }
+        CDPSession cdp = null;
+        try {
+            cdp = page.context().newCDPSession(page);
+            cdp.send("Performance.enable");
+            JsonObject response = cdp.send("Performance.getMetrics");
+            for (JsonElement metric : response.getAsJsonArray("metrics")) {
+                JsonObject entry = metric.getAsJsonObject();
+                metrics.put(entry.get("name").getAsString(), entry.get("value").getAsDouble());
+            }
+        } catch (PlaywrightException e) {
+            logger.fine("CDP metrics unavailable for " + page.url() + ": " + e.getMessage());
+        } finally {
+            if (cdp != null) {
+                try {
+                    cdp.detach();
+                } catch (PlaywrightException ignored) {
+                    // page went away while sampling
+                }
+            }
+        }
+        return metrics;
+    }
+
+    private synchronized void write(PageSample sample) {
+        try {
+            Files.createDirectories(output.getParent());
+            StringBuilder rows = new StringBuilder();
+            if (!headerWritten) {
+                rows.append(PageSample.CSV_HEADER).append('\n');
+                headerWritten = true;
+            }
+            rows.append(sample.toCsv()).append('\n');
+            Files.writeString(output, rows, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Forwards every call to the wrapped object and passes the result through {@code afterCall}.
+     * Disconnect listeners are handed the proxy, so identity checks against it still hold.
+     */
+    private static final class Forwarding implements InvocationHandler {
+
+        final Object target;
+        final BiFunction<Method, Object, Object> afterCall;
+        final Map<Consumer<Object>, Consumer<Object>> listeners = new IdentityHashMap<>();
+
+        Forwarding(Object target, BiFunction<Method, Object, Object> afterCall) {
+            this.target = target;
+            this.afterCall = afterCall;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Instrumented" + target;
+                }
+                case "onDisconnected" -> {
+                    Consumer<Object> listener = (Consumer<Object>) args[0];
+                    args = new Object[]{listeners.computeIfAbsent(listener, l -> ignored -> l.accept(proxy))};
+                }
+                case "offDisconnected" -> {
+                    Consumer<Object> wrapped = listeners.remove(args[0]);
+                    if (wrapped != null) {
+                        args = new Object[]{wrapped};
+                    }
+                }
+                default -> {
+                }
+            }
+            try {
+                return afterCall.apply(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
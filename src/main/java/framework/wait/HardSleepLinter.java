@@ -0,0 +1,100 @@
+package framework.wait;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Reports fixed sleeps ({@code waitForTimeout}, {@code Thread.sleep}) left in test sources.
+ * <p>
+ * Run from the project root:
+ * <pre>
+ *   mvn -q compile exec:java -Dexec.mainClass=framework.wait.HardSleepLinter
+ *   mvn -q compile exec:java -Dexec.mainClass=framework.wait.HardSleepLinter -Dexec.args="--strict src/test/java"
+ * </pre>
+ * {@code --strict} exits with status 1 when any sleep is found, for use as a CI gate.
+ */
+public final class HardSleepLinter {
+
+    private static final Pattern HARD_SLEEP = Pattern.compile(
+            "\\.waitForTimeout\\(\\s*([^)]*)\\)|Thread\\.sleep\\(\\s*([^)]*)\\)");
+    // "//" at the start or after whitespace or a statement, so "https://..." in a string is kept
+    private static final Pattern TRAILING_COMMENT = Pattern.compile("(^|[\\s;{}])//.*$");
+
+    public record Finding(Path file, int line, String call, long millis) {
+
+        @Override
+        public String toString() {
+            return file + ":" + line + "  " + call + (millis >= 0 ? "  (" + millis + " ms)" : "");
+        }
+    }
+
+    private HardSleepLinter() {
+    }
+
+    public static List<Finding> scan(Path root) {
+        List<Finding> findings = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(p -> p.toString().endsWith(".java")).sorted().toList()) {
+                List<String> lines = Files.readAllLines(file);
+                for (int i = 0; i < lines.size(); i++) {
+                    String line = TRAILING_COMMENT.matcher(lines.get(i)).replaceFirst("$1");
+                    if (line.trim().startsWith("*") || line.trim().startsWith("/*")) {
+                        continue;
+                    }
+                    Matcher matcher = HARD_SLEEP.matcher(line);
+                    while (matcher.find()) {
+                        String argument = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+                        findings.add(new Finding(file, i + 1, matcher.group().trim(), parseMillis(argument)));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return findings;
+    }
+
+    public static void main(String[] args) {
+        boolean strict = false;
+        List<Path> roots = new ArrayList<>();
+        for (String arg : args) {
+            if ("--strict".equals(arg)) {
+                strict = true;
+            } else {
+                roots.add(Paths.get(arg));
+            }
+        }
+        if (roots.isEmpty()) {
+            roots.add(Paths.get("src", "test", "java"));
+        }
+
+        List<Finding> findings = new ArrayList<>();
+        roots.forEach(root -> findings.addAll(scan(root)));
+        findings.forEach(System.out::println);
+
+        long total = findings.stream().mapToLong(f -> Math.max(f.millis(), 0)).sum();
+        System.out.println(findings.size() + " hard sleep(s), at least " + total + " ms of fixed waiting per run");
+        if (strict && !findings.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * A literal duration argument ({@code 500}, {@code 1_000L}) in milliseconds, -1 for anything computed.
+     */
+    static long parseMillis(String argument) {
+        try {
+            return Long.parseLong(argument.trim().replace("_", "").replaceAll("[lL]$", ""));
+        } catch (NumberFormatException e) {
+            return -1;   // computed duration, cannot be summed statically
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package framework.wait;
+
+import com.microsoft.playwright.Download;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+/**
+ * Condition-based waits to use instead of {@code page.waitForTimeout(...)} / {@code Thread.sleep(...)}.
+ * <p>
+ * Every wait returns as soon as its condition holds and fails after {@link #DEFAULT_TIMEOUT_MS},
+ * so a fast page costs nothing and a broken one fails with a clear message instead of a
+ * later, unrelated assertion.
+ * <p>
+ * Run {@link HardSleepLinter} to list the fixed sleeps still left in the suites.
+ */
+public final class Waits {
+
+    public static final double DEFAULT_TIMEOUT_MS = 15_000;
+
+    // Matches any <video> that is actually receiving frames from a MediaStream (camera) or a file
+    private static final String VIDEO_PLAYING = """
+            selector => [...document.querySelectorAll(selector)].some(video =>
+                video.readyState >= HTMLMediaElement.HAVE_CURRENT_DATA
+                    && video.videoWidth > 0
+                    && (!video.srcObject || video.srcObject.getVideoTracks().some(t => t.readyState === 'live')))
+            """;
+
+    private Waits() {
+    }
+
+    public static Locator visible(Locator locator) {
+        return state(locator, WaitForSelectorState.VISIBLE);
+    }
+
+    public static Locator hidden(Locator locator) {
+        return state(locator, WaitForSelectorState.HIDDEN);
+    }
+
+    public static Locator attached(Locator locator) {
+        return state(locator, WaitForSelectorState.ATTACHED);
+    }
+
+    public static Locator enabled(Locator locator) {
+        assertThat(locator).isEnabled(new LocatorAssertions.IsEnabledOptions().setTimeout(DEFAULT_TIMEOUT_MS));
+        return locator;
+    }
+
+    /**
+     * Wait until there have been no network connections for at least 500 ms.
+     */
+    public static void networkIdle(Page page) {
+        page.waitForLoadState(LoadState.NETWORKIDLE,
+                new Page.WaitForLoadStateOptions().setTimeout(DEFAULT_TIMEOUT_MS));
+    }
+
+    /**
+     * Wait until a {@code <video>} on the page renders frames from a live media stream.
+     */
+    public static void mediaStreamReady(Page page) {
+        mediaStreamReady(page, "video");
+    }
+
+    public static void mediaStreamReady(Page page, String videoSelector) {
+        page.waitForFunction(VIDEO_PLAYING, videoSelector,
+                new Page.WaitForFunctionOptions().setTimeout(DEFAULT_TIMEOUT_MS));
+    }
+
+    /**
+     * Run the trigger and return as soon as the browser reports that a download started.
+     * The file may still be in flight; {@link Download#path()} waits for it to finish.
+     */
+    public static Download downloadStarted(Page page, Runnable trigger) {
+        return page.waitForDownload(new Page.WaitForDownloadOptions().setTimeout(DEFAULT_TIMEOUT_MS), trigger);
+    }
+
+    private static Locator state(Locator locator, WaitForSelectorState state) {
+        locator.waitFor(new Locator.WaitForOptions().setState(state).setTimeout(DEFAULT_TIMEOUT_MS));
+        return locator;
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import com.microsoft.playwright.*;
+import framework.browser.LaunchProfile;
+import framework.telemetry.ProcessMemory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Launch time and resident memory per {@link LaunchProfile}.
+ * <p>
+ * For every profile: launch, open a page on about:blank, read the RSS of all browser processes,
+ * close; repeated {@code -Diterations} times (default 5) after one warm-up launch. Prints the
+ * median of each. RSS needs procfs (Linux) and is reported as -1 elsewhere.
+ * <p>
+ * Run: mvn -P benchmark test-compile exec:java -Dexec.mainClass=benchmarks.LaunchProfileHarness -Dexec.classpathScope=test
+ * Only some profiles: append -Dexec.args="CI FAST_HEADLESS"
+ */
+public class LaunchProfileHarness {
+
+    public static void main(String[] args) {
+        int iterations = Integer.getInteger("iterations", 5);
+        List<LaunchProfile> profiles = args.length == 0
+                ? Arrays.asList(LaunchProfile.values())
+                : Arrays.stream(args).map(LaunchProfile::valueOf).toList();
+
+        System.out.printf("%-14s %12s %12s%n", "profile", "launch ms", "RSS MB");
+        try (Playwright playwright = Playwright.create()) {
+            for (LaunchProfile profile : profiles) {
+                // Headed profiles are measured headless too, so the numbers compare like for like
+                BrowserType.LaunchOptions options = profile.options().setHeadless(true);
+                measure(playwright, options);   // warm-up: disk cache, driver JIT
+                List<Long> launchMillis = new ArrayList<>();
+                List<Long> rssBytes = new ArrayList<>();
+                for (int i = 0; i < iterations; i++) {
+                    long[] sample = measure(playwright, options);
+                    launchMillis.add(sample[0]);
+                    rssBytes.add(sample[1]);
+                }
+                long rss = median(rssBytes);
+                System.out.printf("%-14s %12d %12s%n", profile, median(launchMillis),
+                        rss < 0 ? "-1" : String.format("%.1f", rss / 1024.0 / 1024.0));
+            }
+        }
+    }
+
+    private static long[] measure(Playwright playwright, BrowserType.LaunchOptions options) {
+        long start = System.nanoTime();
+        Browser browser = playwright.chromium().launch(options);
+        long launchMillis = (System.nanoTime() - start) / 1_000_000;
+        Page page = browser.newPage();
+        page.navigate("about:blank");
+        long rss = ProcessMemory.browserRssBytes();
+        browser.close();
+        return new long[]{launchMillis, rss};
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+}
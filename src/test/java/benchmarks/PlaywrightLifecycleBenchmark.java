@@ -0,0 +1,183 @@
+package benchmarks;
+
+import com.microsoft.playwright.*;
+import com.microsoft.playwright.options.ColorScheme;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lifecycle costs behind every practice suite:
+ * - Playwright.create() (spawns the Node driver)
+ * - chromium().launch() with bundled Chromium vs setChannel("chrome")
+ * - browser.newContext() for each option set used in _05_BrowserLaunchOptions
+ * - context.newPage()
+ * - page.navigate() against a local static server (no WAN in the number)
+ * <p>
+ * Run: mvn -P benchmark test-compile exec:exec -Djmh.args="PlaywrightLifecycle"
+ * Skip the Chrome channel when Chrome is not installed: -Djmh.args="PlaywrightLifecycle -p channel=chromium"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(1)   // Playwright objects are thread-confined
+public class PlaywrightLifecycleBenchmark {
+
+    // ========================================
+    // Driver startup
+    // ========================================
+    @Benchmark
+    public void playwrightCreate() {
+        Playwright.create().close();
+    }
+
+    // ========================================
+    // Browser launch
+    // ========================================
+    @State(Scope.Thread)
+    public static class LaunchState {
+
+        @Param({"chromium", "chrome"})
+        public String channel;
+
+        Playwright playwright;
+        BrowserType.LaunchOptions options;
+
+        @Setup
+        public void setUp() {
+            playwright = Playwright.create();
+            options = new BrowserType.LaunchOptions().setHeadless(true);
+            if (!"chromium".equals(channel)) {
+                options.setChannel(channel);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            playwright.close();
+        }
+    }
+
+    @Benchmark
+    public void launch(LaunchState state) {
+        state.playwright.chromium().launch(state.options).close();
+    }
+
+    // ========================================
+    // Context creation per _05 option set
+    // ========================================
+    @State(Scope.Thread)
+    public static class BrowserState {
+
+        @Param({"default", "viewport", "deviceScaleFactor", "userAgent", "ignoreHttpsErrors",
+                "extraHeaders", "offline", "colorScheme", "ciConfiguration", "combined"})
+        public String contextOptions;
+
+        Playwright playwright;
+        Browser browser;
+        Browser.NewContextOptions options;
+
+        @Setup
+        public void setUp() {
+            playwright = Playwright.create();
+            browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
+            options = contextOptions(contextOptions);
+        }
+
+        @TearDown
+        public void tearDown() {
+            playwright.close();
+        }
+    }
+
+    @Benchmark
+    public void newContext(BrowserState state) {
+        state.browser.newContext(state.options).close();
+    }
+
+    // ========================================
+    // Page creation and local navigation
+    // ========================================
+    @State(Scope.Thread)
+    public static class ContextState {
+
+        Playwright playwright;
+        Browser browser;
+        BrowserContext context;
+        Page page;
+        HttpServer server;
+        String url;
+
+        @Setup
+        public void setUp() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            byte[] body = "<!DOCTYPE html><html><head><title>Benchmark</title></head><body><h1>Static page</h1></body></html>"
+                    .getBytes(StandardCharsets.UTF_8);
+            server.createContext("/", exchange -> {
+                exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+
+            playwright = Playwright.create();
+            browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
+            context = browser.newContext();
+            page = context.newPage();
+        }
+
+        @TearDown
+        public void tearDown() {
+            playwright.close();
+            server.stop(0);
+        }
+    }
+
+    @Benchmark
+    public void newPage(ContextState state) {
+        state.context.newPage().close();
+    }
+
+    @Benchmark
+    public Response navigateLocal(ContextState state) {
+        return state.page.navigate(state.url);
+    }
+
+    static Browser.NewContextOptions contextOptions(String name) {
+        return switch (name) {
+            case "default" -> new Browser.NewContextOptions();
+            case "viewport" -> new Browser.NewContextOptions().setViewportSize(1920, 1080);
+            case "deviceScaleFactor" -> new Browser.NewContextOptions()
+                    .setViewportSize(1920, 1080)
+                    .setDeviceScaleFactor(2);
+            case "userAgent" -> new Browser.NewContextOptions().setUserAgent("MyTestBot/1.0 (Automated Testing)");
+            case "ignoreHttpsErrors" -> new Browser.NewContextOptions().setIgnoreHTTPSErrors(true);
+            case "extraHeaders" -> new Browser.NewContextOptions().setExtraHTTPHeaders(Map.of(
+                    "X-Custom-Header", "AvdhutDemo",
+                    "X-API-Key", "test-key-123"));
+            case "offline" -> new Browser.NewContextOptions().setOffline(true);
+            case "colorScheme" -> new Browser.NewContextOptions().setColorScheme(ColorScheme.DARK);
+            case "ciConfiguration" -> new Browser.NewContextOptions()
+                    .setViewportSize(1920, 1080)
+                    .setIgnoreHTTPSErrors(true);
+            case "combined" -> new Browser.NewContextOptions()
+                    .setViewportSize(1920, 1080)
+                    .setDeviceScaleFactor(2)
+                    .setUserAgent("Custom Test Agent")
+                    .setIgnoreHTTPSErrors(true)
+                    .setExtraHTTPHeaders(Map.of("X-Test", "true"));
+            default -> throw new IllegalArgumentException("Unknown context option set: " + name);
+        };
+    }
+}
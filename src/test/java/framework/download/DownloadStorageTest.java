@@ -0,0 +1,120 @@
+package framework.download;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Eviction on a temporary tree with back-dated files, swept explicitly rather than in the background.
+ */
+public class DownloadStorageTest {
+
+    private Path root;
+
+    @BeforeMethod
+    public void createRoot() throws IOException {
+        root = Files.createTempDirectory("downloads");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteRoot() throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    public void sweepDeletesExpiredFilesOnly() throws IOException {
+        Path expired = file("shard-0/old.png", 10, Duration.ofMinutes(30));
+        Path young = file("shard-0/recent.png", 10, Duration.ofMinutes(5));
+        Path fresh = file("shard-1/fresh.png", 10, Duration.ZERO);
+
+        try (DownloadStorage storage = new DownloadStorage(root, 1024, Duration.ofMinutes(10))) {
+            Assert.assertEquals(storage.sweep(), 1);
+        }
+
+        Assert.assertFalse(Files.exists(expired));
+        Assert.assertTrue(Files.exists(young));
+        Assert.assertTrue(Files.exists(fresh));
+    }
+
+    @Test
+    public void sweepEvictsOldestFilesUntilUnderBudget() throws IOException {
+        Path oldest = file("shard-0/a.bin", 60, Duration.ofMinutes(30));
+        Path older = file("shard-0/b.bin", 30, Duration.ofMinutes(20));
+        Path old = file("shard-1/c.bin", 30, Duration.ofMinutes(10));
+
+        // 120 bytes over a 100 byte budget: deleting the oldest 60 is enough
+        try (DownloadStorage storage = new DownloadStorage(root, 100, Duration.ofHours(1))) {
+            Assert.assertEquals(storage.sweep(), 1);
+        }
+
+        Assert.assertFalse(Files.exists(oldest));
+        Assert.assertTrue(Files.exists(older));
+        Assert.assertTrue(Files.exists(old));
+    }
+
+    @Test
+    public void sweepNeverEvictsFilesWithinGrace() throws IOException {
+        Path first = file("shard-0/a.bin", 60, Duration.ZERO);
+        Path second = file("shard-0/b.bin", 60, DownloadStorage.GRACE.dividedBy(2));
+
+        try (DownloadStorage storage = new DownloadStorage(root, 100, Duration.ofHours(1))) {
+            Assert.assertEquals(storage.sweep(), 0);
+        }
+
+        Assert.assertTrue(Files.exists(first));
+        Assert.assertTrue(Files.exists(second));
+    }
+
+    @Test
+    public void sweepRemovesEmptyBatchDirectoriesButKeepsShards() throws IOException {
+        Path abandoned = directory("shard-0/batch_old", Duration.ofMinutes(5));
+        Path current = directory("shard-0/batch_new", Duration.ZERO);
+        Path used = directory("shard-1/batch_used", Duration.ofMinutes(5));
+        file("shard-1/batch_used/report.csv", 10, Duration.ZERO);
+        Files.setLastModifiedTime(used, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofMinutes(5).toMillis()));
+        Path emptyShard = directory("shard-2", Duration.ofMinutes(5));
+
+        try (DownloadStorage storage = new DownloadStorage(root, 1024, Duration.ofHours(1))) {
+            storage.sweep();
+        }
+
+        Assert.assertFalse(Files.exists(abandoned), "empty batch directory past GRACE");
+        Assert.assertTrue(Files.exists(current), "empty batch directory within GRACE");
+        Assert.assertTrue(Files.exists(used), "batch directory with files");
+        Assert.assertTrue(Files.exists(emptyShard), "shard directory");
+    }
+
+    @Test
+    public void sweepOfMissingRootDeletesNothing() throws IOException {
+        try (DownloadStorage storage = new DownloadStorage(root.resolve("missing"), 1024, Duration.ofHours(1))) {
+            Assert.assertEquals(storage.sweep(), 0);
+        }
+    }
+
+    private Path file(String relative, int bytes, Duration age) throws IOException {
+        Path file = root.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[bytes]);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - age.toMillis()));
+        return file;
+    }
+
+    private Path directory(String relative, Duration age) throws IOException {
+        Path dir = Files.createDirectories(root.resolve(relative));
+        Files.setLastModifiedTime(dir, FileTime.fromMillis(System.currentTimeMillis() - age.toMillis()));
+        return dir;
+    }
+}
@@ -0,0 +1,50 @@
+package framework.junit;
+
+import framework.shard.DurationHistory;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit side of {@code framework.testng.DurationRecorder}: records each test's duration into the
+ * {@link DurationHistory} file, saved when the JVM exits.
+ * <p>
+ * Registered for every JUnit class through {@code META-INF/services} and extension auto-detection
+ * ({@code junit-platform.properties}), so the suites need no annotation.
+ */
+public class DurationRecorderExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(DurationRecorderExtension.class);
+
+    private static final DurationHistory HISTORY = DurationHistory.load();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(HISTORY::save, "duration-history-save"));
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("start", System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove("start", Long.class);
+        if (start != null) {
+            HISTORY.record(context.getRequiredTestClass().getName(), context.getRequiredTestMethod(),
+                    invocation(context), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    // Parameterized and other template tests: "...]/[test-template-invocation:#3]" is row 3
+    private static int invocation(ExtensionContext context) {
+        String id = context.getUniqueId();
+        int marker = id.lastIndexOf("[test-template-invocation:#");
+        if (marker < 0) {
+            return -1;
+        }
+        String index = id.substring(marker + "[test-template-invocation:#".length(), id.indexOf(']', marker));
+        return Integer.parseInt(index);
+    }
+}
@@ -0,0 +1,93 @@
+package framework.junit;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import framework.browser.PlaywrightRegistry;
+import framework.config.ExecutionMode;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * Drop-in replacement for {@code @UsePlaywright} built on {@link PlaywrightRegistry}.
+ * <pre>
+ *   &#64;ExtendWith(SharedPlaywrightExtension.class)
+ *   class MyTest {
+ *       &#64;Test
+ *       void title(Page page) { ... }
+ *   }
+ * </pre>
+ * Test methods can take {@link Playwright}, {@link Browser}, {@link BrowserContext} and {@link Page}
+ * parameters. Playwright and the Chromium browser are shared by every test class on the thread
+ * for the whole run (launched per {@link ExecutionMode}); each test gets a fresh context and page,
+ * closed when the test ends. The browsers live in the root extension store, so JUnit closes them
+ * when the run ends, before the registry's Playwright instances shut down.
+ */
+public class SharedPlaywrightExtension implements ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SharedPlaywrightExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameter, ExtensionContext extension) {
+        Class<?> type = parameter.getParameter().getType();
+        return type == Playwright.class || type == Browser.class || type == BrowserContext.class || type == Page.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameter, ExtensionContext extension) {
+        Class<?> type = parameter.getParameter().getType();
+        if (type == Playwright.class) {
+            return PlaywrightRegistry.get();
+        }
+        if (type == Browser.class) {
+            return browser(extension);
+        }
+        if (type == BrowserContext.class) {
+            return context(extension);
+        }
+        ExtensionContext.Store store = extension.getStore(NAMESPACE);
+        return store.getOrComputeIfAbsent(Page.class, key -> context(extension).newPage(), Page.class);
+    }
+
+    // One browser per thread, like the registry's Playwright instances
+    private static Browser browser(ExtensionContext extension) {
+        ExtensionContext.Store root = extension.getRoot().getStore(NAMESPACE);
+        String key = "browser-" + Thread.currentThread().threadId();
+        ClosingBrowser shared = root.get(key, ClosingBrowser.class);
+        if (shared == null || !shared.browser().isConnected()) {
+            Browser browser = PlaywrightRegistry.get().chromium().launch(ExecutionMode.current().launchOptions());
+            shared = new ClosingBrowser(browser);
+            root.put(key, shared);
+        }
+        return shared.browser();
+    }
+
+    private static BrowserContext context(ExtensionContext extension) {
+        ExtensionContext.Store store = extension.getStore(NAMESPACE);
+        return store.getOrComputeIfAbsent(ClosingContext.class,
+                key -> new ClosingContext(browser(extension).newContext()), ClosingContext.class).context();
+    }
+
+    // Closed by JUnit when the run's root extension context ends (Jupiter 5.13+ closes AutoCloseable store values)
+    private record ClosingBrowser(Browser browser) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            if (browser.isConnected()) {
+                browser.close();
+            }
+        }
+    }
+
+    // Closed by JUnit when the test's extension context ends
+    private record ClosingContext(BrowserContext context) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package framework.junit;
+
+import framework.telemetry.TelemetryCollector;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit side of {@code framework.testng.TelemetryListener}: names the running test for
+ * {@link TelemetryCollector} from before the first {@code @BeforeEach} until after the last
+ * {@code @AfterEach}, so pages a suite opens in its setup are sampled too.
+ * <p>
+ * Registered for every JUnit class through {@code META-INF/services}, like
+ * {@link DurationRecorderExtension}.
+ */
+public class TelemetryExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        TelemetryCollector.forRun().begin(context.getRequiredTestClass().getSimpleName() + "." + context.getDisplayName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TelemetryCollector.forRun().end();
+    }
+}
@@ -0,0 +1,100 @@
+package framework.media;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Y4M layout and marker hashes of small generated clips, read back byte by byte.
+ */
+public class Y4mGeneratorTest {
+
+    private static final int WIDTH = 32;
+    private static final int HEIGHT = 16;
+    private static final int FRAME = WIDTH * HEIGHT * 3 / 2;
+
+    @Test
+    public void clipHasHeaderAndOneFrameRecordPerFrame() throws IOException {
+        Y4mGenerator generator = new Y4mGenerator(Y4mGenerator.Pattern.MOVING_BOX).size(WIDTH, HEIGHT).fps(5).seconds(1);
+        byte[] clip = Files.readAllBytes(generator.write(Files.createTempFile("clip", ".y4m")));
+
+        byte[] header = "YUV4MPEG2 W32 H16 F5:1 Ip A1:1 C420jpeg\n".getBytes(StandardCharsets.US_ASCII);
+        Assert.assertEquals(Arrays.copyOf(clip, header.length), header);
+        Assert.assertEquals(generator.frames(), 5);
+        Assert.assertEquals(clip.length, generator.bytes());
+        Assert.assertEquals(clip.length, header.length + 5L * ("FRAME\n".length() + FRAME));
+        for (int i = 0; i < 5; i++) {
+            int offset = header.length + i * ("FRAME\n".length() + FRAME);
+            Assert.assertEquals(new String(clip, offset, 6, StandardCharsets.US_ASCII), "FRAME\n", "frame " + i);
+        }
+        Assert.assertFalse(Arrays.equals(frame(clip, header.length, 0), frame(clip, header.length, 1)), "the box moves");
+    }
+
+    @Test
+    public void shortClipsHaveAtLeastOneFrame() {
+        Assert.assertEquals(new Y4mGenerator(Y4mGenerator.Pattern.COLOR_BARS).fps(10).seconds(0.01).frames(), 1);
+    }
+
+    @Test
+    public void rejectsOddSizesAndWideMarkers() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new Y4mGenerator(Y4mGenerator.Pattern.COLOR_BARS).size(641, 480));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new Y4mGenerator(Y4mGenerator.Pattern.MARKER).marker(0x10000));
+    }
+
+    @Test
+    public void expectedHashIsStableAndMatchesTheRenderedGrid() throws IOException {
+        Y4mGenerator generator = new Y4mGenerator(Y4mGenerator.Pattern.MARKER).size(WIDTH, HEIGHT).fps(1).seconds(1)
+                .marker(0xA5C3);
+        long hash = generator.expectedHash();
+
+        Assert.assertEquals(new Y4mGenerator(Y4mGenerator.Pattern.MARKER).marker(0xA5C3).expectedHash(), hash,
+                "independent of size and frame rate");
+        Assert.assertNotEquals(new Y4mGenerator(Y4mGenerator.Pattern.MARKER).marker(0xA5C2).expectedHash(), hash);
+
+        // Average hash of the written luma plane, sampled at the centre of each 8x8 cell
+        byte[] clip = Files.readAllBytes(generator.write(Files.createTempFile("marker", ".y4m")));
+        int start = clip.length - FRAME;
+        int[] luma = new int[64];
+        double mean = 0;
+        for (int i = 0; i < 64; i++) {
+            int x = (i % 8 * 2 + 1) * WIDTH / 16;
+            int y = (i / 8 * 2 + 1) * HEIGHT / 16;
+            luma[i] = clip[start + y * WIDTH + x] & 0xFF;
+            mean += luma[i] / 64.0;
+        }
+        long rendered = 0;
+        for (int i = 0; i < 64; i++) {
+            rendered = rendered << 1 | (luma[i] > mean ? 1 : 0);
+        }
+        Assert.assertEquals(rendered, hash);
+    }
+
+    @Test
+    public void onlyMarkerClipsHaveAnExpectedHash() {
+        Assert.assertThrows(IllegalStateException.class,
+                () -> new Y4mGenerator(Y4mGenerator.Pattern.COLOR_BARS).expectedHash());
+    }
+
+    @Test
+    public void writeTempReusesTheClipForEqualParameters() {
+        Path first = new Y4mGenerator(Y4mGenerator.Pattern.MARKER).size(WIDTH, HEIGHT).fps(2).seconds(1).marker(7).writeTemp();
+        Path second = new Y4mGenerator(Y4mGenerator.Pattern.MARKER).size(WIDTH, HEIGHT).fps(2).seconds(1).marker(7).writeTemp();
+        Path other = new Y4mGenerator(Y4mGenerator.Pattern.MARKER).size(WIDTH, HEIGHT).fps(2).seconds(1).marker(8).writeTemp();
+
+        Assert.assertEquals(second, first);
+        Assert.assertNotEquals(other, first);
+        Assert.assertEquals(first.getParent(), Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath());
+    }
+
+    private static byte[] frame(byte[] clip, int headerLength, int index) {
+        int offset = headerLength + index * ("FRAME\n".length() + FRAME) + "FRAME\n".length();
+        return Arrays.copyOfRange(clip, offset, offset + FRAME);
+    }
+}
@@ -0,0 +1,33 @@
+package framework.network;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Site approximation used for first/third-party decisions, no browser involved.
+ */
+public class ResourceBlockerTest {
+
+    @Test
+    public void subdomainsShareTheirSite() {
+        Assert.assertEquals(ResourceBlocker.site("https://api.example.com/v1"), "example.com");
+        Assert.assertEquals(ResourceBlocker.site("https://www.example.com/"), "example.com");
+    }
+
+    @Test
+    public void sharedSuffixesKeepOneMoreLabel() {
+        Assert.assertEquals(ResourceBlocker.site("https://the-internet.herokuapp.com/login"),
+                "the-internet.herokuapp.com");
+        Assert.assertNotEquals(ResourceBlocker.site("https://other-app.herokuapp.com/"),
+                ResourceBlocker.site("https://the-internet.herokuapp.com/"), "apps are separate sites");
+        Assert.assertEquals(ResourceBlocker.site("https://www.bbc.co.uk/news"), "bbc.co.uk");
+        Assert.assertEquals(ResourceBlocker.site("https://co.uk/"), "co.uk");
+    }
+
+    @Test
+    public void addressesAndSingleLabelHostsAreTheirOwnSite() {
+        Assert.assertEquals(ResourceBlocker.site("http://127.0.0.1:8080/"), "127.0.0.1");
+        Assert.assertEquals(ResourceBlocker.site("http://localhost:3000/"), "localhost");
+        Assert.assertNull(ResourceBlocker.site("data:image/png;base64,AAAA"));
+    }
+}
@@ -0,0 +1,77 @@
+package framework.server;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * Path resolution and traversal checks against the real fixture tree, over plain HTTP.
+ */
+public class FixtureServerTest {
+
+    private static final String HOST = "example.com";
+
+    private FixtureServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeClass
+    public void start() {
+        server = new FixtureServer("fixtures/", List.of(HOST));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stop() {
+        server.close();
+    }
+
+    @Test
+    public void resolveMapsPagesAndFiles() {
+        Assert.assertEquals(FixtureServer.resolve("/"), "/index.html");
+        Assert.assertEquals(FixtureServer.resolve(""), "/index.html");
+        Assert.assertEquals(FixtureServer.resolve("/login"), "/login.html");
+        Assert.assertEquals(FixtureServer.resolve("/download/"), "/download/index.html");
+        Assert.assertEquals(FixtureServer.resolve("/download/sample.png"), "/download/sample.png");
+    }
+
+    @Test
+    public void resolveRejectsParentSegments() {
+        for (String path : List.of("/..", "/../", "/../hosts.txt", "/download/../../hosts.txt", "/a/..")) {
+            Assert.assertEquals(FixtureServer.resolve(path), "/__invalid__", path);
+        }
+    }
+
+    @DataProvider
+    public Object[][] traversals() {
+        return new Object[][]{
+                {"/../hosts.txt"},
+                {"/%2e%2e/hosts.txt"},
+                {"/%2E%2E%2Fhosts.txt"},
+                {"/download/..%2F..%2Fhosts.txt"},
+                {"/%2e%2e/" + HOST + "/index.html"},
+        };
+    }
+
+    @Test(dataProvider = "traversals")
+    public void serverDoesNotLeaveTheHostDirectory(String rawPath) throws Exception {
+        Assert.assertEquals(get(rawPath), 404, rawPath);
+    }
+
+    @Test
+    public void serverServesTheHostIndex() throws Exception {
+        Assert.assertEquals(get("/"), 200);
+    }
+
+    private int get(String rawPath) throws IOException, InterruptedException {
+        URI uri = URI.create(server.baseUrl(HOST) + rawPath);
+        return client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,83 @@
+package framework.shard;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Fixed inputs for the LPT assignment and the duration history, no browser involved.
+ */
+public class ShardPlannerTest {
+
+    @Test
+    public void planAssignsLongestClassToShortestShard() throws IOException {
+        ShardPlanner planner = new ShardPlanner(new DurationHistory(Files.createTempFile("durations", ".tsv")));
+        List<ShardPlanner.TestClass> classes = List.of(
+                new ShardPlanner.TestClass("A", true, 1, 7),
+                new ShardPlanner.TestClass("B", true, 1, 5),
+                new ShardPlanner.TestClass("C", true, 1, 4),
+                new ShardPlanner.TestClass("D", false, 1, 3),
+                new ShardPlanner.TestClass("E", false, 1, 3));
+
+        // A→1, B→2, C→2 (5 < 7), D→1 (7 < 9), E→2 (9 < 10)
+        List<ShardPlanner.Shard> shards = planner.plan(classes, 2);
+
+        Assert.assertEquals(shards.stream().map(ShardPlanner.Shard::estimatedMillis).toList(), List.of(10L, 12L));
+        Assert.assertEquals(shards.get(0).testngClasses(), List.of("A"));
+        Assert.assertEquals(shards.get(0).junitClasses(), List.of("D"));
+        Assert.assertEquals(shards.get(1).testngClasses(), List.of("B", "C"));
+        Assert.assertEquals(shards.get(1).junitClasses(), List.of("E"));
+    }
+
+    @Test
+    public void historyBlendsMeasurementsAndMergesConcurrentSaves() throws Exception {
+        Path file = Files.createTempDirectory("history").resolve("durations.tsv");
+        Method plain = Sample.class.getDeclaredMethod("run");
+        Method overload = Sample.class.getDeclaredMethod("run", String.class);
+
+        // Two forks that both loaded the history before either saved
+        DurationHistory first = DurationHistory.load(file);
+        DurationHistory second = DurationHistory.load(file);
+        first.record("Sample", plain, -1, 100);
+        first.record("Sample", plain, -1, 200);       // EMA 0.5: 150
+        second.record("Sample", overload, 0, 40);     // data rows are kept apart ...
+        second.record("Sample", overload, 1, 60);
+        first.save();
+        second.save();
+
+        DurationHistory merged = DurationHistory.load(file);
+        Assert.assertEquals(merged.millis("Sample", plain), 150);
+        Assert.assertEquals(merged.millis("Sample", overload), 100);   // ... and summed per method
+        Assert.assertEquals(merged.millis("Other", plain), -1);
+        Assert.assertTrue(Files.readString(file).contains("Sample#run(String)[1]\t60\t1"));
+    }
+
+    @Test
+    public void junitIncludeMatchesExactlyTheShardClasses() {
+        Pattern include = Pattern.compile(
+                ShardPlanner.junitInclude(List.of("practice._01_DemoScript", "practice._04_Tests")));
+
+        Assert.assertTrue(include.matcher("practice/_01_DemoScript.class").matches());
+        Assert.assertTrue(include.matcher("practice/_04_Tests.class").matches());
+        Assert.assertFalse(include.matcher("practice/_01_DemoScriptTwo.class").matches());
+        Assert.assertFalse(include.matcher("practice/_02_RefactoredDemoScript.class").matches());
+        Pattern none = Pattern.compile(ShardPlanner.junitInclude(List.of()));
+        Assert.assertFalse(none.matcher("practice/_01_DemoScript.class").matches());
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Sample {
+
+        void run() {
+        }
+
+        void run(String row) {
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package framework.testng;
+
+import framework.shard.DurationHistory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Records every TestNG test's duration into the {@link DurationHistory} file when the suite ends.
+ * Registered in {@code testng.xml} and in the shard suites written by {@code ShardPlanner}.
+ */
+public class DurationRecorder implements ITestListener, ISuiteListener {
+
+    private final DurationHistory history = DurationHistory.load();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        history.save();
+    }
+
+    private void record(ITestResult result) {
+        int invocation = result.getParameters().length > 0 ? result.getParameterIndex() : -1;   // data-provider row
+        history.record(result.getTestClass().getName(), result.getMethod().getConstructorOrMethod().getMethod(),
+                invocation, result.getEndMillis() - result.getStartMillis());
+    }
+}
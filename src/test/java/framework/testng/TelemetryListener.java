@@ -0,0 +1,37 @@
+package framework.testng;
+
+import framework.telemetry.TelemetryCollector;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Names the running TestNG test for {@link TelemetryCollector}, so page loads in the contexts it
+ * opens are sampled under that name. Registered in {@code testng.xml} and in the shard suites
+ * written by {@code ShardPlanner}.
+ */
+public class TelemetryListener implements ITestListener {
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        if (result.getParameters().length > 0) {
+            name += "[" + result.getParameterIndex() + "]";   // data-provider row
+        }
+        TelemetryCollector.forRun().begin(name);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        TelemetryCollector.forRun().end();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        TelemetryCollector.forRun().end();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        TelemetryCollector.forRun().end();
+    }
+}
@@ -0,0 +1,74 @@
+package framework.wait;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Sleep detection and duration parsing on small generated sources.
+ */
+public class HardSleepLinterTest {
+
+    @Test
+    public void parseMillisReadsLiterals() {
+        Assert.assertEquals(HardSleepLinter.parseMillis("500"), 500);
+        Assert.assertEquals(HardSleepLinter.parseMillis("1_000"), 1000);
+        Assert.assertEquals(HardSleepLinter.parseMillis("2_000L"), 2000);
+        Assert.assertEquals(HardSleepLinter.parseMillis(" 3000l "), 3000);
+    }
+
+    @Test
+    public void parseMillisReportsComputedArgumentsAsUnknown() {
+        for (String argument : List.of("timeout", "2 * 1000", "Duration.ofSeconds(2", "500, 0", "")) {
+            Assert.assertEquals(HardSleepLinter.parseMillis(argument), -1, argument);
+        }
+    }
+
+    @Test
+    public void scanFindsSleepsWithLineAndDuration() throws IOException {
+        Path root = source("""
+                class Sample {
+                    void test() throws Exception {
+                        page.waitForTimeout(1_500);
+                        Thread.sleep( 200L );
+                        page.navigate("https://example.com"); page.waitForTimeout(delay);
+                    }
+                }
+                """);
+
+        List<HardSleepLinter.Finding> findings = HardSleepLinter.scan(root);
+
+        Assert.assertEquals(findings.stream().map(HardSleepLinter.Finding::line).toList(), List.of(3, 4, 5));
+        Assert.assertEquals(findings.stream().map(HardSleepLinter.Finding::millis).toList(), List.of(1500L, 200L, -1L));
+        Assert.assertEquals(findings.get(0).call(), ".waitForTimeout(1_500)");
+    }
+
+    @Test
+    public void scanIgnoresComments() throws IOException {
+        Path root = source("""
+                /**
+                 * Used to call page.waitForTimeout(1000) here.
+                 */
+                class Sample {
+                    // Thread.sleep(500);
+                    /* page.waitForTimeout(250); */
+                    void test() {
+                        page.click("#save");   // was: Thread.sleep(2000)
+                    }
+                }
+                """);
+
+        Assert.assertEquals(HardSleepLinter.scan(root), List.of());
+    }
+
+    private static Path source(String code) throws IOException {
+        Path root = Files.createTempDirectory("lint");
+        Files.writeString(root.resolve("Sample.java"), code);
+        Files.writeString(root.resolve("notes.txt"), "Thread.sleep(100)");   // not a Java source
+        return root;
+    }
+}
@@ -1,37 +1,85 @@
 package practice;
 
 import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
+import framework.browser.PlaywrightRegistry;
+import framework.config.ExecutionMode;
+import framework.network.BlockingProfile;
+import framework.network.BlockingReport;
+import framework.network.HarCache;
+import framework.network.ResourceBlocker;
+import framework.server.Fixtures;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
 public class _01_DemoScript {
 
     @Test
     void _verifyPageTitleIsVisible() {
-        Playwright playwright = Playwright.create();
-        Browser browser = playwright.chromium().launch();
+        Playwright playwright = PlaywrightRegistry.get();
+        Browser browser = playwright.chromium().launch(ExecutionMode.current().launchOptions());
         Page page = browser.newPage();
-        page.navigate("https://the-internet.herokuapp.com/");
+        BlockingReport blocked = ResourceBlocker.apply(page, BlockingProfile.TEXT_ONLY_FIRST_PARTY);   // only the title matters
+        page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
         String title = page.title();
         Assertions.assertEquals("The Internet", title);
+        System.out.println("📊 " + blocked);
         page.close();
         browser.close();
-        playwright.close();
     }
 
     @Test
     void searchProduct() {
-        Playwright playwright = Playwright.create();
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(false));
-        Page page = browser.newPage();
-        page.navigate("https://practicesoftwaretesting.com/");
+        Playwright playwright = PlaywrightRegistry.get();
+        Browser browser = playwright.chromium().launch(ExecutionMode.current().apply(
+                new BrowserType.LaunchOptions().setHeadless(false)));
+        BrowserContext context = browser.newContext();
+        HarCache.shared().attach(context, "practicesoftwaretesting.com");
+        BlockingReport blocked = ResourceBlocker.apply(context, BlockingProfile.TEXT_ONLY);   // product cards need no images
+        Page page = context.newPage();
+        page.navigate(Fixtures.url("https://practicesoftwaretesting.com/"));
         page.locator("[placeholder='Search']").fill("Plier");
         page.locator("button:has-text('Search')").click();
-        Assertions.assertTrue(page.locator(".card").count() > 0);
+        Locator titles = page.locator(".card .card-title");
+        assertThat(titles.filter(new Locator.FilterOptions().setHasNotText("Plier"))).hasCount(0);
+        assertThat(titles.first()).containsText("Plier");   // and the search found something
+        System.out.println("📊 " + blocked);
+        context.close();   // flushes the HAR when recording
+        browser.close();
+    }
+
+    @Test
+    void searchProductReplaysFromHar() {
+        Assumptions.assumeFalse(Fixtures.local(), "Fixture hosts are served from loopback, nothing to cache");
+        Playwright playwright = PlaywrightRegistry.get();
+        Browser browser = playwright.chromium().launch(ExecutionMode.current().launchOptions());
+
+        BrowserContext recording = browser.newContext();
+        HarCache.shared().attach(recording, "practicesoftwaretesting.com");   // records unless a fresh HAR exists
+        searchPliers(recording.newPage());   // waits for the results, so the HAR holds the search too
+        recording.close();
+
+        // Second run: the site's requests may only be answered from the HAR, anything else is aborted
+        BrowserContext replaying = browser.newContext();
+        HarCache.shared().replay(replaying, "practicesoftwaretesting.com");
+        searchPliers(replaying.newPage());
+        replaying.close();
         browser.close();
-        playwright.close();
+    }
+
+    private static void searchPliers(Page page) {
+        page.navigate("https://practicesoftwaretesting.com/");
+        page.locator("[placeholder='Search']").fill("Plier");
+        page.locator("button:has-text('Search')").click();
+        Locator titles = page.locator(".card .card-title");
+        assertThat(titles.filter(new Locator.FilterOptions().setHasNotText("Plier"))).hasCount(0);
+        assertThat(titles.first()).containsText("Plier");
     }
 }
@@ -1,36 +1,47 @@
 package practice;
 
 import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
+import framework.browser.PlaywrightRegistry;
+import framework.config.ExecutionMode;
+import framework.network.BlockingProfile;
+import framework.network.BlockingReport;
+import framework.network.ResourceBlocker;
+import framework.server.Fixtures;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
 public class _02_RefactoredDemoScript {
 
     Playwright playwright;
     Browser browser;
     Page page;
+    BlockingReport blockingReport;
 
     @BeforeEach
     void setup() {
-        playwright = Playwright.create();
-        browser = playwright.chromium().launch();
+        playwright = PlaywrightRegistry.get();
+        browser = playwright.chromium().launch(ExecutionMode.current().launchOptions());
         page = browser.newPage();
+        blockingReport = ResourceBlocker.apply(page, BlockingProfile.TEXT_ONLY_FIRST_PARTY);
     }
 
     @AfterEach
     void teardown() {
+        System.out.println("📊 " + blockingReport);
         page.close();
         browser.close();
-        playwright.close();
     }
 
     @Test
     void _verifyPageTitleIsVisible() {
-        page.navigate("https://the-internet.herokuapp.com/");
+        page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
         String title = page.title();
         Assertions.assertEquals("The Internet", title);
 
@@ -38,9 +49,11 @@ public class _02_RefactoredDemoScript {
 
     @Test
     void searchProduct() {
-        page.navigate("https://practicesoftwaretesting.com/");
+        page.navigate(Fixtures.url("https://practicesoftwaretesting.com/"));
         page.locator("[placeholder='Search']").fill("Plier");
         page.locator("button:has-text('Search')").click();
-        Assertions.assertTrue(page.locator(".card").count() > 0);
+        Locator titles = page.locator(".card .card-title");
+        assertThat(titles.filter(new Locator.FilterOptions().setHasNotText("Plier"))).hasCount(0);
+        assertThat(titles.first()).containsText("Plier");   // and the search found something
     }
 }
@@ -1,26 +1,40 @@
 package practice;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.junit.UsePlaywright;
+import framework.junit.SharedPlaywrightExtension;
+import framework.network.BlockingProfile;
+import framework.network.BlockingReport;
+import framework.network.ResourceBlocker;
+import framework.server.Fixtures;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
-@UsePlaywright
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+@ExtendWith(SharedPlaywrightExtension.class)   // Driver and browser shared with the rest of the run
 public class _03_RefactoredUsingOnlyPage {
 
     @Test
     void _verifyPageTitleIsVisible(Page page) {
-        page.navigate("https://the-internet.herokuapp.com/");
+        BlockingReport blocked = ResourceBlocker.apply(page, BlockingProfile.TEXT_ONLY_FIRST_PARTY);
+        page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
         String title = page.title();
         Assertions.assertEquals("The Internet", title);
+        System.out.println("📊 " + blocked);
 
     }
 
     @Test
     void searchProduct(Page page) {
-        page.navigate("https://practicesoftwaretesting.com/");
+        BlockingReport blocked = ResourceBlocker.apply(page, BlockingProfile.TEXT_ONLY_FIRST_PARTY);
+        page.navigate(Fixtures.url("https://practicesoftwaretesting.com/"));
         page.locator("[placeholder='Search']").fill("Plier");
         page.locator("button:has-text('Search')").click();
-        Assertions.assertTrue(page.locator(".card").count() > 0);
+        Locator titles = page.locator(".card .card-title");
+        assertThat(titles.filter(new Locator.FilterOptions().setHasNotText("Plier"))).hasCount(0);
+        assertThat(titles.first()).containsText("Plier");   // and the search found something
+        System.out.println("📊 " + blocked);
     }
 }
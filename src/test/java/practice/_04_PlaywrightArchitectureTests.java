@@ -1,11 +1,24 @@
 package practice;
 
 import com.microsoft.playwright.*;
+import framework.auth.StorageStateCache;
+import framework.browser.BrowserHealthMonitor;
+import framework.browser.PlaywrightRegistry;
+import framework.config.ExecutionMode;
+import framework.context.ContextPool;
+import framework.parallel.CrossBrowserRunner;
+import framework.parallel.Engine;
+import framework.parallel.ParallelExecutor;
+import framework.parallel.ScenarioExecutor;
+import framework.remote.EndpointDispatcher;
+import framework.server.Fixtures;
 import org.junit.jupiter.api.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Complete Playwright Architecture Test Suite
@@ -23,7 +36,10 @@ import java.util.concurrent.CompletableFuture;
 public class _04_PlaywrightArchitectureTests {
 
     private static Playwright playwright;
+    private static BrowserHealthMonitor health;
     private static Browser browser;
+    private static ContextPool contextPool;
+    private static StorageStateCache sessions;
 
     @BeforeAll
     static void setUp() {
@@ -31,12 +47,57 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("🚀 Initializing Playwright Test Suite");
         System.out.println("========================================\n");
 
-        playwright = Playwright.create();
-        browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                .setHeadless(false));  // Set to false to see browser in action
+        playwright = PlaywrightRegistry.get();
+
+        // One browser for the whole suite, relaunched if it dies and recycled after 50 contexts or 2 GB.
+        // Every context goes through the monitor (health.newContext, closed after each test; the pool's create hook)
+        health = new BrowserHealthMonitor(() -> playwright.chromium().launch(ExecutionMode.current().apply(
+                new BrowserType.LaunchOptions().setHeadless(false))), 50, 2048)   // Headed only with -Dpw.mode=debug
+                .beforeRecycle(() -> contextPool.drainIdle())   // warm contexts must not pin the old browser
+                .onRelaunch(fresh -> {
+                    browser = fresh;
+                    contextPool.close();
+                    contextPool = new ContextPool(fresh, 3, health::watch);
+                    contextPool.prewarm();
+                });
+        browser = health.browser();
 
         System.out.println("✅ Playwright initialized");
         System.out.println("✅ Browser launched (Chromium)");
+
+        // Keep 3 contexts warm: the most any single scenario below uses at once
+        contextPool = new ContextPool(browser, 3, health::watch);
+        contextPool.prewarm();
+
+        // Each role logs in through the UI once; later contexts reuse the saved session
+        sessions = StorageStateCache.shared()
+                .role("admin", page -> {
+                    page.navigate(Fixtures.url("https://the-internet.herokuapp.com/login"));
+                    page.fill("#username", "tomsmith");
+                    page.fill("#password", "SuperSecretPassword!");
+                    page.click("button[type=submit]");
+                    page.waitForURL(url -> url.contains("/secure"));
+                })
+                .role("customer", page -> toolshopLogin(page, "customer@practicesoftwaretesting.com"))
+                .role("customer2", page -> toolshopLogin(page, "customer2@practicesoftwaretesting.com"));
+    }
+
+    private static void toolshopLogin(Page page, String email) {
+        page.navigate(Fixtures.url("https://practicesoftwaretesting.com/auth/login"));
+        page.fill("[data-test=email]", email);
+        page.fill("[data-test=password]", "welcome01");
+        page.click("[data-test=login-submit]");
+        page.waitForURL(url -> url.contains("/account"));
+    }
+
+    @BeforeEach
+    void healthyBrowser() {
+        browser = health.browser();   // fails fast: a crashed browser is replaced, not timed out on
+    }
+
+    @AfterEach
+    void closeTestContexts() {
+        health.closeContexts();       // a failed test's contexts would otherwise block recycling
     }
 
     @AfterAll
@@ -45,13 +106,13 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("🧹 Cleaning up resources");
         System.out.println("========================================\n");
 
-        if (browser != null) {
-            browser.close();
-            System.out.println("✅ Browser closed");
+        if (contextPool != null) {
+            contextPool.close();
+            System.out.println("✅ Context pool closed");
         }
-        if (playwright != null) {
-            playwright.close();
-            System.out.println("✅ Playwright closed");
+        if (health != null) {
+            health.close();
+            System.out.println("✅ Browser closed (" + health.stats() + ")");
         }
     }
 
@@ -65,7 +126,7 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   All tabs share cookies and session data\n");
 
         // Create ONE context (like one Chrome profile)
-        BrowserContext context = browser.newContext();
+        BrowserContext context = health.newContext();
 
         // Open 3 pages (like 3 tabs in same profile)
         Page page1 = context.newPage();
@@ -73,10 +134,10 @@ public class _04_PlaywrightArchitectureTests {
         Page page3 = context.newPage();
 
         System.out.println("   📄 Page 1: Navigating to The Internet");
-        page1.navigate("https://the-internet.herokuapp.com/");
+        page1.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         System.out.println("   📄 Page 2: Navigating to Example.com");
-        page2.navigate("https://example.com/");
+        page2.navigate(Fixtures.url("https://example.com/"));
 
         System.out.println("   📄 Page 3: Navigating to HTTPBin");
         page3.navigate("https://httpbin.org/");
@@ -102,9 +163,9 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Each context has its own cookies/storage\n");
 
         // Create 3 contexts (like 3 different Chrome profiles)
-        BrowserContext context1 = browser.newContext();
-        BrowserContext context2 = browser.newContext();
-        BrowserContext context3 = browser.newContext();
+        BrowserContext context1 = health.newContext();
+        BrowserContext context2 = health.newContext();
+        BrowserContext context3 = health.newContext();
 
         // Each context gets its own page
         Page page1 = context1.newPage();
@@ -112,13 +173,13 @@ public class _04_PlaywrightArchitectureTests {
         Page page3 = context3.newPage();
 
         System.out.println("   👤 Context 1 (User 1): Navigating to website");
-        page1.navigate("https://the-internet.herokuapp.com/");
+        page1.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         System.out.println("   👤 Context 2 (User 2): Navigating to same website");
-        page2.navigate("https://the-internet.herokuapp.com/");
+        page2.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         System.out.println("   👤 Context 3 (User 3): Navigating to same website");
-        page3.navigate("https://the-internet.herokuapp.com/");
+        page3.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         // All see same title but have separate sessions
         Assertions.assertEquals("The Internet", page1.title());
@@ -142,47 +203,26 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Scenario: Testing on Chromium, Firefox, and WebKit");
         System.out.println("   Three different browser applications running\n");
 
-        // Launch 3 different browsers
-        Browser chromiumBrowser = playwright.chromium().launch(
-                new BrowserType.LaunchOptions().setHeadless(false));
-        Browser firefoxBrowser = playwright.firefox().launch(
-                new BrowserType.LaunchOptions().setHeadless(false));
-        Browser webkitBrowser = playwright.webkit().launch(
-                new BrowserType.LaunchOptions().setHeadless(false));
+        // Each engine runs on its own thread with its own Playwright: total time = slowest engine
+        CrossBrowserRunner.Report<String> report = new CrossBrowserRunner(
+                new BrowserType.LaunchOptions().setHeadless(false),
+                Engine.CHROMIUM, Engine.FIREFOX, Engine.WEBKIT)
+                .run(page -> {
+                    System.out.println("   🌐 " + Thread.currentThread().getName() + ": Testing website");
+                    page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
+                    return page.title();
+                });
 
-        // Create context and page for each browser
-        BrowserContext chromiumContext = chromiumBrowser.newContext();
-        BrowserContext firefoxContext = firefoxBrowser.newContext();
-        BrowserContext webkitContext = webkitBrowser.newContext();
-
-        Page chromiumPage = chromiumContext.newPage();
-        Page firefoxPage = firefoxContext.newPage();
-        Page webkitPage = webkitContext.newPage();
-
-        System.out.println("   🌐 Chromium: Testing website");
-        chromiumPage.navigate("https://the-internet.herokuapp.com/");
-
-        System.out.println("   🦊 Firefox: Testing website");
-        firefoxPage.navigate("https://the-internet.herokuapp.com/");
-
-        System.out.println("   🧭 WebKit: Testing website");
-        webkitPage.navigate("https://the-internet.herokuapp.com/");
+        System.out.println(report.toString().indent(3));
 
         // Verify on all browsers
-        Assertions.assertEquals("The Internet", chromiumPage.title());
-        Assertions.assertEquals("The Internet", firefoxPage.title());
-        Assertions.assertEquals("The Internet", webkitPage.title());
+        Assertions.assertTrue(report.allPassed(), report.toString());
+        Assertions.assertEquals("The Internet", report.result(Engine.CHROMIUM).value());
+        Assertions.assertEquals("The Internet", report.result(Engine.FIREFOX).value());
+        Assertions.assertEquals("The Internet", report.result(Engine.WEBKIT).value());
 
         System.out.println("   ✅ All browsers tested successfully");
         System.out.println("   ℹ️  Cross-browser compatibility verified\n");
-
-        // Cleanup
-        chromiumContext.close();
-        firefoxContext.close();
-        webkitContext.close();
-        chromiumBrowser.close();
-        firefoxBrowser.close();
-        webkitBrowser.close();
     }
 
     // ========================================
@@ -194,21 +234,22 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Scenario: Two customers with separate shopping carts");
         System.out.println("   Each customer's cart should be isolated\n");
 
-        // Customer A context
-        BrowserContext customerA = browser.newContext();
+        // Customer contexts start signed in: each role logs in once, then its cached session is reused
+        BrowserContext customerA = health.newContext(b -> sessions.newContext(b, "customer"));
         Page customerAPage = customerA.newPage();
 
-        // Customer B context
-        BrowserContext customerB = browser.newContext();
+        BrowserContext customerB = health.newContext(b -> sessions.newContext(b, "customer2"));
         Page customerBPage = customerB.newPage();
 
-        System.out.println("   🛒 Customer A: Browsing store");
-        customerAPage.navigate("https://practicesoftwaretesting.com/");
-        customerAPage.waitForTimeout(1000);
+        System.out.println("   🛒 Customer A: Opening account");
+        customerAPage.navigate(Fixtures.url("https://practicesoftwaretesting.com/account"));
+
+        System.out.println("   🛒 Customer B: Opening account");
+        customerBPage.navigate(Fixtures.url("https://practicesoftwaretesting.com/account"));
 
-        System.out.println("   🛒 Customer B: Browsing store");
-        customerBPage.navigate("https://practicesoftwaretesting.com/");
-        customerBPage.waitForTimeout(1000);
+        // No redirect to the login page: both sessions were hydrated from the cache
+        Assertions.assertTrue(customerAPage.url().contains("/account"));
+        Assertions.assertTrue(customerBPage.url().contains("/account"));
 
         System.out.println("   ✅ Both customers can shop independently");
         System.out.println("   ℹ️  Each has isolated cart (separate cookies)\n");
@@ -226,24 +267,23 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Scenario: Admin and regular user testing simultaneously");
         System.out.println("   Each has different permissions and views\n");
 
-        // Admin context
-        BrowserContext adminContext = browser.newContext();
+        // Admin context, signed in from the session cache
+        BrowserContext adminContext = health.newContext(b -> sessions.newContext(b, "admin"));
         Page adminPage = adminContext.newPage();
 
         // User context
-        BrowserContext userContext = browser.newContext();
+        BrowserContext userContext = health.newContext();
         Page userPage = userContext.newPage();
 
-        System.out.println("   👨‍💼 Admin: Accessing website");
-        adminPage.navigate("https://the-internet.herokuapp.com/");
-        adminPage.click("text=Form Authentication");
+        System.out.println("   👨‍💼 Admin: Accessing secure area");
+        adminPage.navigate(Fixtures.url("https://the-internet.herokuapp.com/secure"));
 
         System.out.println("   👤 User: Accessing website");
-        userPage.navigate("https://the-internet.herokuapp.com/");
+        userPage.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
         userPage.click("text=Checkboxes");
 
         // Verify different pages accessed
-        Assertions.assertTrue(adminPage.url().contains("login"));
+        Assertions.assertTrue(adminPage.url().contains("secure"));
         Assertions.assertTrue(userPage.url().contains("checkboxes"));
 
         System.out.println("   ✅ Admin and User sessions isolated");
@@ -263,19 +303,19 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Incognito has no cookies, clean state\n");
 
         // Normal context (like regular browser window)
-        BrowserContext normalContext = browser.newContext();
+        BrowserContext normalContext = health.newContext();
         Page normalPage = normalContext.newPage();
 
         // Incognito context (fresh, clean state)
-        BrowserContext incognitoContext = browser.newContext();
+        BrowserContext incognitoContext = health.newContext();
         Page incognitoPage = incognitoContext.newPage();
 
         System.out.println("   🌐 Normal Mode: Browsing website");
-        normalPage.navigate("https://the-internet.herokuapp.com/");
+        normalPage.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
         // In real scenario, normal mode would have cookies
 
         System.out.println("   🕵️ Incognito Mode: Browsing same website");
-        incognitoPage.navigate("https://the-internet.herokuapp.com/");
+        incognitoPage.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
         // Incognito starts fresh with no cookies
 
         System.out.println("   ✅ Both modes work independently");
@@ -294,21 +334,23 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Scenario: Single context with single page");
         System.out.println("   Most common pattern for simple tests\n");
 
-        BrowserContext context = browser.newContext();
-        Page page = context.newPage();
-
-        System.out.println("   📄 Navigating to website");
-        page.navigate("https://the-internet.herokuapp.com/");
+        BrowserContext context = contextPool.acquire();
+        try {
+            Page page = context.newPage();
 
-        String title = page.title();
-        System.out.println("   📋 Page Title: " + title);
+            System.out.println("   📄 Navigating to website");
+            page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
-        Assertions.assertEquals("The Internet", title);
+            String title = page.title();
+            System.out.println("   📋 Page Title: " + title);
 
-        System.out.println("   ✅ Basic pattern works perfectly");
-        System.out.println("   ℹ️  Use this for simple, single-page tests\n");
+            Assertions.assertEquals("The Internet", title);
 
-        context.close();
+            System.out.println("   ✅ Basic pattern works perfectly");
+            System.out.println("   ℹ️  Use this for simple, single-page tests\n");
+        } finally {
+            contextPool.release(context);   // a leased context would also keep the browser from recycling
+        }
     }
 
     // ========================================
@@ -320,22 +362,22 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Scenario: Login once, access multiple pages");
         System.out.println("   All pages share authentication\n");
 
-        BrowserContext context = browser.newContext();
+        BrowserContext context = health.newContext();
 
         // Page 1: Login page
         Page loginPage = context.newPage();
         System.out.println("   🔐 Page 1: Login page");
-        loginPage.navigate("https://the-internet.herokuapp.com/login");
+        loginPage.navigate(Fixtures.url("https://the-internet.herokuapp.com/login"));
 
         // Page 2: Dashboard (would use same session)
         Page dashboardPage = context.newPage();
         System.out.println("   📊 Page 2: Dashboard (shares session)");
-        dashboardPage.navigate("https://the-internet.herokuapp.com/");
+        dashboardPage.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         // Page 3: Profile (would use same session)
         Page profilePage = context.newPage();
         System.out.println("   👤 Page 3: Profile (shares session)");
-        profilePage.navigate("https://the-internet.herokuapp.com/");
+        profilePage.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         System.out.println("   ✅ All pages share same authentication");
         System.out.println("   ℹ️  Login once, use everywhere in same context\n");
@@ -352,30 +394,34 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Scenario: Three users, completely isolated");
         System.out.println("   No data sharing between contexts\n");
 
-        // User 1 context
-        BrowserContext user1 = browser.newContext();
-        Page user1Page = user1.newPage();
-        System.out.println("   👤 User 1: Has own session");
-        user1Page.navigate("https://the-internet.herokuapp.com/");
-
-        // User 2 context
-        BrowserContext user2 = browser.newContext();
-        Page user2Page = user2.newPage();
-        System.out.println("   👤 User 2: Has own session");
-        user2Page.navigate("https://the-internet.herokuapp.com/");
-
-        // User 3 context
-        BrowserContext user3 = browser.newContext();
-        Page user3Page = user3.newPage();
-        System.out.println("   👤 User 3: Has own session");
-        user3Page.navigate("https://the-internet.herokuapp.com/");
-
-        System.out.println("   ✅ All users isolated successfully");
-        System.out.println("   ℹ️  Each user has separate cookies/storage/session\n");
-
-        user1.close();
-        user2.close();
-        user3.close();
+        List<BrowserContext> users = new ArrayList<>();
+        try {
+            // User 1 context
+            BrowserContext user1 = contextPool.acquire();
+            users.add(user1);
+            Page user1Page = user1.newPage();
+            System.out.println("   👤 User 1: Has own session");
+            user1Page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
+
+            // User 2 context
+            BrowserContext user2 = contextPool.acquire();
+            users.add(user2);
+            Page user2Page = user2.newPage();
+            System.out.println("   👤 User 2: Has own session");
+            user2Page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
+
+            // User 3 context
+            BrowserContext user3 = contextPool.acquire();
+            users.add(user3);
+            Page user3Page = user3.newPage();
+            System.out.println("   👤 User 3: Has own session");
+            user3Page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
+
+            System.out.println("   ✅ All users isolated successfully");
+            System.out.println("   ℹ️  Each user has separate cookies/storage/session\n");
+        } finally {
+            users.forEach(contextPool::release);
+        }
     }
 
     // ========================================
@@ -388,26 +434,26 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Real-world complex testing\n");
 
         // User 1 with multiple tabs
-        BrowserContext user1Context = browser.newContext();
+        BrowserContext user1Context = health.newContext();
         Page user1Tab1 = user1Context.newPage();
         Page user1Tab2 = user1Context.newPage();
 
         System.out.println("   👤 User 1 - Tab 1: Home page");
-        user1Tab1.navigate("https://the-internet.herokuapp.com/");
+        user1Tab1.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         System.out.println("   👤 User 1 - Tab 2: Form page");
-        user1Tab2.navigate("https://the-internet.herokuapp.com/login");
+        user1Tab2.navigate(Fixtures.url("https://the-internet.herokuapp.com/login"));
 
         // User 2 with multiple tabs
-        BrowserContext user2Context = browser.newContext();
+        BrowserContext user2Context = health.newContext();
         Page user2Tab1 = user2Context.newPage();
         Page user2Tab2 = user2Context.newPage();
 
         System.out.println("   👥 User 2 - Tab 1: Home page");
-        user2Tab1.navigate("https://the-internet.herokuapp.com/");
+        user2Tab1.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         System.out.println("   👥 User 2 - Tab 2: Checkboxes page");
-        user2Tab2.navigate("https://the-internet.herokuapp.com/checkboxes");
+        user2Tab2.navigate(Fixtures.url("https://the-internet.herokuapp.com/checkboxes"));
 
         System.out.println("   ✅ Complex multi-user, multi-tab testing successful");
         System.out.println("   ℹ️  Each user's tabs share session within context\n");
@@ -425,44 +471,24 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Scenario: Test same feature on different browsers");
         System.out.println("   Ensures browser compatibility\n");
 
-        List<String> browserNames = new ArrayList<>();
-        List<Browser> browsers = new ArrayList<>();
-
-        // Launch Chromium
-        Browser chromium = playwright.chromium().launch(
-                new BrowserType.LaunchOptions().setHeadless(false));
-        browsers.add(chromium);
-        browserNames.add("Chromium");
-
-        // Launch Firefox
-        Browser firefox = playwright.firefox().launch(
-                new BrowserType.LaunchOptions().setHeadless(false));
-        browsers.add(firefox);
-        browserNames.add("Firefox");
+        CrossBrowserRunner.Report<String> report = new CrossBrowserRunner(
+                new BrowserType.LaunchOptions().setHeadless(false),
+                Engine.CHROMIUM, Engine.FIREFOX)
+                .run(page -> {
+                    page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
+                    return page.title();
+                });
 
         // Test on each browser
-        for (int i = 0; i < browsers.size(); i++) {
-            Browser b = browsers.get(i);
-            String name = browserNames.get(i);
-
-            BrowserContext context = b.newContext();
-            Page page = context.newPage();
-
-            System.out.println("   🌐 " + name + ": Testing website");
-            page.navigate("https://the-internet.herokuapp.com/");
-
-            Assertions.assertEquals("The Internet", page.title());
-            System.out.println("   ✅ " + name + ": Working correctly");
-
-            context.close();
+        for (CrossBrowserRunner.EngineResult<String> result : report.results()) {
+            Assertions.assertTrue(result.passed(), result.toString());
+            Assertions.assertEquals("The Internet", result.value());
+            System.out.println("   ✅ " + result.engine() + ": Working correctly");
         }
 
+        System.out.println("   📊 Wall time " + report.wallMillis() + " ms vs "
+                + report.sequentialMillis() + " ms one after another");
         System.out.println("   ℹ️  All browsers behave consistently\n");
-
-        // Cleanup
-        for (Browser b : browsers) {
-            b.close();
-        }
     }
 
     // ========================================
@@ -475,37 +501,45 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Faster test execution\n");
 
         List<String> urls = List.of(
-                "https://the-internet.herokuapp.com/",
-                "https://example.com/",
-                "https://the-internet.herokuapp.com/login"
+                Fixtures.url("https://the-internet.herokuapp.com/"),
+                Fixtures.url("https://example.com/"),
+                Fixtures.url("https://the-internet.herokuapp.com/login")
         );
 
         System.out.println("   🚀 Starting parallel execution...");
 
-        // Execute tests in parallel
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        // Each worker thread owns its own Playwright + Browser: Playwright objects are not thread-safe,
+        // so the shared suite browser must never be touched from other threads
+        List<CompletableFuture<String>> futures = new ArrayList<>();
 
-        for (int i = 0; i < urls.size(); i++) {
-            final int index = i;
-            final String url = urls.get(i);
+        // -Dpw.executor=virtual runs each scenario on a virtual thread over the same number of browsers
+        try (ScenarioExecutor executor = ScenarioExecutor.create(urls.size(),
+                ParallelExecutor.chromium(new BrowserType.LaunchOptions().setHeadless(false)))) {
 
-            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                BrowserContext context = browser.newContext();
-                Page page = context.newPage();
+            for (String url : urls) {
+                futures.add(executor.submit(workerBrowser -> {
+                    BrowserContext context = workerBrowser.newContext();
+                    Page page = context.newPage();
 
-                System.out.println("   📄 Thread " + (index + 1) + ": Navigating to " + url);
-                page.navigate(url);
+                    System.out.println("   📄 " + Thread.currentThread().getName() + ": Navigating to " + url);
+                    page.navigate(url);
+                    String title = page.title();
 
-                System.out.println("   ✅ Thread " + (index + 1) + ": Completed");
+                    System.out.println("   ✅ " + Thread.currentThread().getName() + ": Completed");
 
-                context.close();
-            });
+                    context.close();
+                    return title;
+                }));
+            }
 
-            futures.add(future);
+            // Wait for all to complete
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            executor.stats().forEach(stats -> System.out.println("   📊 " + stats));
         }
 
-        // Wait for all to complete
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        Assertions.assertEquals("The Internet", futures.get(0).join());
+        Assertions.assertEquals("Example Domain", futures.get(1).join());
 
         System.out.println("   ✅ All parallel tests completed");
         System.out.println("   ℹ️  Parallel execution = Faster tests\n");
@@ -521,7 +555,7 @@ public class _04_PlaywrightArchitectureTests {
         System.out.println("   Custom viewport, user agent, timezone\n");
 
         // Mobile device context (iPhone)
-        BrowserContext mobileContext = browser.newContext(new Browser.NewContextOptions()
+        BrowserContext mobileContext = health.newContext(new Browser.NewContextOptions()
                 .setViewportSize(375, 667)  // iPhone 6/7/8 size
                 .setUserAgent("Mozilla/5.0 (iPhone; CPU iPhone OS 14_0 like Mac OS X)")
                 .setLocale("en-US")
@@ -530,7 +564,7 @@ public class _04_PlaywrightArchitectureTests {
         Page mobilePage = mobileContext.newPage();
 
         System.out.println("   📱 Mobile Device: iPhone viewport (375x667)");
-        mobilePage.navigate("https://the-internet.herokuapp.com/");
+        mobilePage.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         // Verify viewport
         Assertions.assertEquals(375, mobilePage.viewportSize().width);
@@ -542,13 +576,13 @@ public class _04_PlaywrightArchitectureTests {
         mobileContext.close();
 
         // Desktop context
-        BrowserContext desktopContext = browser.newContext(new Browser.NewContextOptions()
+        BrowserContext desktopContext = health.newContext(new Browser.NewContextOptions()
                 .setViewportSize(1920, 1080));
 
         Page desktopPage = desktopContext.newPage();
 
         System.out.println("   🖥️  Desktop Device: Desktop viewport (1920x1080)");
-        desktopPage.navigate("https://the-internet.herokuapp.com/");
+        desktopPage.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
 
         Assertions.assertEquals(1920, desktopPage.viewportSize().width);
         Assertions.assertEquals(1080, desktopPage.viewportSize().height);
@@ -557,5 +591,80 @@ public class _04_PlaywrightArchitectureTests {
 
         desktopContext.close();
     }
-}
 
+    // ========================================
+    // TEST 14: Remote Browser Servers
+    // ========================================
+    @Test
+    void test_14_RemoteBrowserServers() {
+        System.out.println("\n📌 TEST 14: Remote Browser Servers");
+        System.out.println("   Scenario: Browsers run in separate server processes");
+        System.out.println("   Workers connect over WebSocket, least-loaded endpoint first\n");
+
+        List<String> urls = List.of(
+                Fixtures.url("https://the-internet.herokuapp.com/"),
+                Fixtures.url("https://example.com/"),
+                Fixtures.url("https://the-internet.herokuapp.com/checkboxes"),
+                Fixtures.url("https://example.com/")
+        );
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+
+        // Two loopback servers; suites use EndpointDispatcher.fromSystemProperty() for -Dpw.remote.
+        // ParallelExecutor connects every worker up front, so each of the 4 workers holds one browser
+        EndpointDispatcher dispatcher = EndpointDispatcher.local(2);
+        try (dispatcher; ScenarioExecutor executor = new ParallelExecutor(urls.size(), 16, dispatcher.launcher())) {
+
+            for (String url : urls) {
+                futures.add(executor.submit(remoteBrowser -> {
+                    BrowserContext context = remoteBrowser.newContext();
+                    Page page = context.newPage();
+                    page.navigate(url);
+                    String title = page.title();
+                    context.close();
+                    return title;
+                }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+        Map<String, Integer> served = dispatcher.served();   // after close: every worker has connected
+
+        served.forEach((endpoint, count) -> System.out.println("   🛰️ " + endpoint + " served " + count));
+        Assertions.assertEquals("The Internet", futures.get(0).join());
+        Assertions.assertEquals("Example Domain", futures.get(1).join());
+        // Least-loaded first: 4 browsers split 2 + 2
+        Assertions.assertEquals(List.of(2, 2), List.copyOf(served.values()), "Browsers per endpoint: " + served);
+
+        System.out.println("   ✅ Remote browsers served all scenarios");
+        System.out.println("   ℹ️  Browser memory lives outside the test JVM\n");
+    }
+
+    // ========================================
+    // TEST 15: Crash Recovery
+    // ========================================
+    @Test
+    void test_15_CrashRecovery() {
+        System.out.println("\n📌 TEST 15: Crash Recovery");
+        System.out.println("   Scenario: The renderer crashes in the middle of a test");
+        System.out.println("   The health monitor notices and retries on a fresh context\n");
+
+        int crashesBefore = health.stats().crashes();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String title = health.run(context -> {
+            Page page = context.newPage();
+            if (attempts.incrementAndGet() == 1) {
+                System.out.println("   💥 Attempt 1: crashing the renderer");
+                page.navigate("chrome://crash");
+            }
+            page.navigate(Fixtures.url("https://the-internet.herokuapp.com/"));
+            return page.title();
+        });
+
+        Assertions.assertEquals("The Internet", title);
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(crashesBefore + 1, health.stats().crashes());
+
+        System.out.println("   ✅ Attempt 2 passed on a healthy context");
+        System.out.println("   ℹ️  Crashes cost one retry instead of a cascade of timeouts\n");
+    }
+}
@@ -2,8 +2,11 @@ package practice;
 
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.ColorScheme;
+import framework.browser.BrowserPool;
+import framework.browser.LaunchProfile;
+import framework.browser.PlaywrightRegistry;
+import framework.server.Fixtures;
 import org.testng.Assert;
-import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
@@ -19,22 +22,14 @@ import java.util.logging.Logger;
 public class _05_BrowserLaunchOptions {
 
     private static final Logger logger = Logger.getLogger(_05_BrowserLaunchOptions.class.getName());
-    private static Playwright playwright;
+    private static BrowserPool browserPool;
 
     @BeforeSuite
     public void setUp() {
         logger.info("\n========================================");
         logger.info("🚀 Browser Launch Options Test Suite");
         logger.info("========================================\n");
-        playwright = Playwright.create();
-    }
-
-    @AfterSuite
-    public void tearDown() {
-        if (playwright != null) {
-            playwright.close();
-            logger.info("\n✅ Playwright closed\n");
-        }
+        browserPool = PlaywrightRegistry.browserPool();   // Shared with the other suites on this thread
     }
 
     // ========================================
@@ -44,19 +39,22 @@ public class _05_BrowserLaunchOptions {
     public void test_01_BasicLaunchOptions() {
         logger.info("📌 TEST 1: Basic Launch Options - Headless, SlowMo, Timeout");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false)           // Show browser UI
                 .setSlowMo(500)               // Slow down actions by 500ms for visibility
                 .setTimeout(30000));          // Launch timeout in milliseconds
 
-        BrowserContext context = browser.newContext();
-        Page page = context.newPage();
-        page.navigate("https://example.com");
+        try {
+            BrowserContext context = browser.newContext();
+            Page page = context.newPage();
+            page.navigate(Fixtures.url("https://example.com"));
 
-        Assert.assertNotNull(page.title());
+            Assert.assertNotNull(page.title());
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -66,22 +64,22 @@ public class _05_BrowserLaunchOptions {
     public void test_02_BrowserArguments() {
         logger.info("📌 TEST 2: Browser Arguments - Custom window size, maximize, disable notifications");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                .setHeadless(false)                    // Show browser UI
-                .setArgs(Arrays.asList(
-                        "--window-size=1280,720",      // Set initial window size
-                        "--start-maximized",           // Start browser maximized
-                        "--disable-notifications"      // Disable browser notifications
-                )));
+        Browser browser = browserPool.acquire(LaunchProfile.INTERACTIVE.options(   // Headed, notifications off
+                "--window-size=1280,720",              // Set initial window size
+                "--start-maximized"                    // Start browser maximized
+        ));
 
-        BrowserContext context = browser.newContext();
-        Page page = context.newPage();
-        page.navigate("https://example.com");
+        try {
+            BrowserContext context = browser.newContext();
+            Page page = context.newPage();
+            page.navigate(Fixtures.url("https://example.com"));
 
-        Assert.assertNotNull(page.title());
+            Assert.assertNotNull(page.title());
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -91,20 +89,23 @@ public class _05_BrowserLaunchOptions {
     public void test_03_ViewportConfiguration() {
         logger.info("📌 TEST 3: Viewport Configuration - Custom viewport dimensions");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false));                  // Show browser UI
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setViewportSize(1920, 1080));         // Set viewport width x height
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setViewportSize(1920, 1080));         // Set viewport width x height
 
-        Page page = context.newPage();
-        page.navigate("https://example.com");
+            Page page = context.newPage();
+            page.navigate(Fixtures.url("https://example.com"));
 
-        Assert.assertEquals(page.viewportSize().width, 1920);
-        Assert.assertEquals(page.viewportSize().height, 1080);
+            Assert.assertEquals(page.viewportSize().width, 1920);
+            Assert.assertEquals(page.viewportSize().height, 1080);
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -114,20 +115,23 @@ public class _05_BrowserLaunchOptions {
     public void test_04_DeviceScaleFactor() {
         logger.info("📌 TEST 4: Device Scale Factor - High-DPI rendering (Retina)");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false));                  // Show browser UI
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setViewportSize(1920, 1080)           // Set viewport size
-                .setDeviceScaleFactor(2));             // Pixel ratio: 2x (Retina display)
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setViewportSize(1920, 1080)           // Set viewport size
+                    .setDeviceScaleFactor(2));             // Pixel ratio: 2x (Retina display)
 
-        Page page = context.newPage();
-        page.navigate("https://example.com");
+            Page page = context.newPage();
+            page.navigate(Fixtures.url("https://example.com"));
 
-        Assert.assertNotNull(page.content());
+            Assert.assertNotNull(page.content());
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -137,19 +141,22 @@ public class _05_BrowserLaunchOptions {
     public void test_05_CustomUserAgent() {
         logger.info("📌 TEST 5: Custom User Agent - Set custom UA string");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false));                  // Show browser UI
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setUserAgent("MyTestBot/1.0 (Automated Testing)"));  // Custom user agent string
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setUserAgent("MyTestBot/1.0 (Automated Testing)"));  // Custom user agent string
 
-        Page page = context.newPage();
-        String userAgent = (String) page.evaluate("() => navigator.userAgent");
+            Page page = context.newPage();
+            String userAgent = (String) page.evaluate("() => navigator.userAgent");
 
-        Assert.assertTrue(userAgent.contains("MyTestBot"));
+            Assert.assertTrue(userAgent.contains("MyTestBot"));
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -159,19 +166,22 @@ public class _05_BrowserLaunchOptions {
     public void test_06_IgnoreHTTPSErrors() {
         logger.info("📌 TEST 6: Ignore HTTPS Errors - Accept self-signed certificates");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false));                  // Show browser UI
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setIgnoreHTTPSErrors(true));          // Ignore SSL/TLS certificate errors
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setIgnoreHTTPSErrors(true));          // Ignore SSL/TLS certificate errors
 
-        Page page = context.newPage();
-        page.navigate("https://expired.badssl.com/");  // Site with expired certificate
+            Page page = context.newPage();
+            page.navigate("https://expired.badssl.com/");  // Site with expired certificate
 
-        Assert.assertNotNull(page.content());
+            Assert.assertNotNull(page.content());
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -181,22 +191,25 @@ public class _05_BrowserLaunchOptions {
     public void test_07_CustomHTTPHeaders() {
         logger.info("📌 TEST 7: Custom HTTP Headers - Add headers to all requests");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false));                  // Show browser UI
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setExtraHTTPHeaders(Map.of(           // Add custom HTTP headers
-                        "X-Custom-Header", "AvdhutDemo",
-                        "X-API-Key", "test-key-123"
-                )));
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setExtraHTTPHeaders(Map.of(           // Add custom HTTP headers
+                            "X-Custom-Header", "AvdhutDemo",
+                            "X-API-Key", "test-key-123"
+                    )));
 
-        Page page = context.newPage();
-        page.navigate("https://httpbin.org/headers");
+            Page page = context.newPage();
+            page.navigate("https://httpbin.org/headers");
 
-        Assert.assertTrue(page.content().contains("AvdhutDemo"));
+            Assert.assertTrue(page.content().contains("AvdhutDemo"));
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -206,21 +219,24 @@ public class _05_BrowserLaunchOptions {
     public void test_08_OfflineMode() {
         logger.info("📌 TEST 8: Offline Mode - Simulate no internet connection");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false));                  // Show browser UI
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setOffline(true));                    // Enable offline mode
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setOffline(true));                    // Enable offline mode
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        Assert.assertThrows(Exception.class, () -> {
-            page.navigate("https://example.com", new Page.NavigateOptions().setTimeout(5000));
-        });
+            Assert.assertThrows(Exception.class, () -> {
+                page.navigate("https://example.com", new Page.NavigateOptions().setTimeout(5000));
+            });
 
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -230,42 +246,45 @@ public class _05_BrowserLaunchOptions {
     public void test_09_ColorScheme() {
         logger.info("📌 TEST 9: Color Scheme - Force dark mode preference");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false));
 
-        BrowserContext darkContext = browser.newContext(new Browser.NewContextOptions()
-                .setColorScheme(ColorScheme.DARK));
+        try {
+            BrowserContext darkContext = browser.newContext(new Browser.NewContextOptions()
+                    .setColorScheme(ColorScheme.DARK));
 
-        Page darkPage = darkContext.newPage();
+            Page darkPage = darkContext.newPage();
 
-        darkPage.navigate("https://developer.mozilla.org");
-        darkPage.waitForTimeout(3000);
+            darkPage.navigate("https://developer.mozilla.org");
+            darkPage.waitForTimeout(3000);
 
-        String colorScheme = (String) darkPage.evaluate(
-                "() => window.matchMedia('(prefers-color-scheme: dark)').matches ? 'dark' : 'light'"
-        );
+            String colorScheme = (String) darkPage.evaluate(
+                    "() => window.matchMedia('(prefers-color-scheme: dark)').matches ? 'dark' : 'light'"
+            );
 
-        logger.info("Color scheme detected: " + colorScheme);
-        Assert.assertEquals(colorScheme, "dark");
+            logger.info("Color scheme detected: " + colorScheme);
+            Assert.assertEquals(colorScheme, "dark");
 
-        darkContext.close();
+            darkContext.close();
 
-        BrowserContext lightContext = browser.newContext(new Browser.NewContextOptions()
-                .setColorScheme(ColorScheme.LIGHT));
+            BrowserContext lightContext = browser.newContext(new Browser.NewContextOptions()
+                    .setColorScheme(ColorScheme.LIGHT));
 
-        Page lightPage = lightContext.newPage();
-        lightPage.navigate("https://developer.mozilla.org");
-        lightPage.waitForTimeout(3000);
+            Page lightPage = lightContext.newPage();
+            lightPage.navigate("https://developer.mozilla.org");
+            lightPage.waitForTimeout(3000);
 
-        String lightScheme = (String) lightPage.evaluate(
-                "() => window.matchMedia('(prefers-color-scheme: dark)').matches ? 'dark' : 'light'"
-        );
+            String lightScheme = (String) lightPage.evaluate(
+                    "() => window.matchMedia('(prefers-color-scheme: dark)').matches ? 'dark' : 'light'"
+            );
 
-        logger.info("Color scheme detected: " + lightScheme);
-        Assert.assertEquals(lightScheme, "light");
+            logger.info("Color scheme detected: " + lightScheme);
+            Assert.assertEquals(lightScheme, "light");
 
-        lightContext.close();
-        browser.close();
+            lightContext.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -275,27 +294,23 @@ public class _05_BrowserLaunchOptions {
     public void test_10_CICDConfiguration() {
         logger.info("📌 TEST 10: CI/CD Configuration - Docker-friendly settings");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                .setHeadless(false)                    // Show browser UI (set true for CI)
-                .setArgs(Arrays.asList(
-                        "--no-sandbox",                // Required for Docker containers
-                        "--disable-gpu",               // Disable GPU hardware acceleration
-                        "--disable-dev-shm-usage",     // Overcome limited shared memory
-                        "--disable-setuid-sandbox",    // Additional sandboxing flag
-                        "--disable-extensions"         // Disable browser extensions
-                )));
+        Browser browser = browserPool.acquire(LaunchProfile.CI.options()   // No sandbox, GPU, /dev/shm, extensions
+                .setHeadless(false));                  // Show browser UI (the CI profile itself is headless)
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setViewportSize(1920, 1080)           // Standard viewport for CI
-                .setIgnoreHTTPSErrors(true));          // Ignore SSL errors in test env
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setViewportSize(1920, 1080)           // Standard viewport for CI
+                    .setIgnoreHTTPSErrors(true));          // Ignore SSL errors in test env
 
-        Page page = context.newPage();
-        page.navigate("https://example.com");
+            Page page = context.newPage();
+            page.navigate(Fixtures.url("https://example.com"));
 
-        Assert.assertNotNull(page.title());
+            Assert.assertNotNull(page.title());
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -306,18 +321,21 @@ public class _05_BrowserLaunchOptions {
         logger.info("📌 TEST 11: Channel Selection - Use Chrome instead of Chromium");
 
         try {
-            Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+            Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                     .setHeadless(false)                // Show browser UI
                     .setChannel("chrome"));            // Use installed Chrome browser
 
-            BrowserContext context = browser.newContext();
-            Page page = context.newPage();
-            page.navigate("https://example.com");
+            try {
+                BrowserContext context = browser.newContext();
+                Page page = context.newPage();
+                page.navigate(Fixtures.url("https://example.com"));
 
-            Assert.assertNotNull(page.title());
+                Assert.assertNotNull(page.title());
 
-            context.close();
-            browser.close();
+                context.close();
+            } finally {
+                browserPool.release(browser);
+            }
         } catch (Exception e) {
             logger.warning("Chrome not installed, test skipped");
         }
@@ -330,23 +348,26 @@ public class _05_BrowserLaunchOptions {
     public void test_12_IncognitoMode() {
         logger.info("📌 TEST 12: Incognito Mode - Isolated browser context");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false)
                 .setArgs(Arrays.asList("--incognito"))
         );
-        BrowserContext incognitoContext = browser.newContext();
-        Page page = incognitoContext.newPage();
-        page.navigate("https://example.com");
-        Assert.assertNotNull(page.title());
-
         try {
-            Thread.sleep(5000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+            BrowserContext incognitoContext = browser.newContext();
+            Page page = incognitoContext.newPage();
+            page.navigate(Fixtures.url("https://example.com"));
+            Assert.assertNotNull(page.title());
+
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            incognitoContext.close();
+        } finally {
+            browserPool.release(browser);
         }
-        incognitoContext.close();
-        browser.close();
     }
 
     // ========================================
@@ -356,29 +377,28 @@ public class _05_BrowserLaunchOptions {
     public void test_13_CombinedConfiguration() {
         logger.info("📌 TEST 13: Combined Configuration - Multiple options together");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                .setHeadless(false)                    // Show browser UI
-                .setSlowMo(100)                        // Slow down by 100ms
-                .setArgs(Arrays.asList(
-                        "--window-size=1920,1080",     // Window size
-                        "--disable-notifications"      // Disable notifications
-                )));
-
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setViewportSize(1920, 1080)           // Viewport dimensions
-                .setDeviceScaleFactor(2)               // 2x pixel ratio
-                .setUserAgent("Custom Test Agent")     // Custom user agent
-                .setIgnoreHTTPSErrors(true)            // Ignore SSL errors
-                .setExtraHTTPHeaders(Map.of("X-Test", "true")));  // Custom headers
-
-        Page page = context.newPage();
-        page.navigate("https://example.com");
-
-        Assert.assertEquals(page.viewportSize().width, 1920);
-        Assert.assertEquals(page.viewportSize().height, 1080);
-
-        context.close();
-        browser.close();
+        Browser browser = browserPool.acquire(LaunchProfile.INTERACTIVE.options(   // Headed, notifications off
+                        "--window-size=1920,1080")     // Window size
+                .setSlowMo(100));                      // Slow down by 100ms
+
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setViewportSize(1920, 1080)           // Viewport dimensions
+                    .setDeviceScaleFactor(2)               // 2x pixel ratio
+                    .setUserAgent("Custom Test Agent")     // Custom user agent
+                    .setIgnoreHTTPSErrors(true)            // Ignore SSL errors
+                    .setExtraHTTPHeaders(Map.of("X-Test", "true")));  // Custom headers
+
+            Page page = context.newPage();
+            page.navigate(Fixtures.url("https://example.com"));
+
+            Assert.assertEquals(page.viewportSize().width, 1920);
+            Assert.assertEquals(page.viewportSize().height, 1080);
+
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 }
 
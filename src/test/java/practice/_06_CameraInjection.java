@@ -1,35 +1,34 @@
 package practice;
 
 import com.microsoft.playwright.*;
-import com.microsoft.playwright.options.WaitForSelectorState;
-import org.testng.annotations.AfterSuite;
+import framework.browser.BrowserPool;
+import framework.browser.PlaywrightRegistry;
+import framework.download.DownloadStorage;
+import framework.media.FrameSample;
+import framework.media.MediaProbe;
+import framework.media.Y4mGenerator;
+import framework.wait.Waits;
+import org.testng.Assert;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.logging.Logger;
 
 /**
- * Prerequisites:
- * - Video file must be in Y4M or MJPEG format (NOT MP4!)
- * - Convert using FFmpeg: ffmpeg -i video.mp4 -pix_fmt yuv420p output.y4m
+ * Camera injection:
+ * - The fake camera reads Y4M or MJPEG files (NOT MP4!)
+ * - TEST 2 generates its clip with Y4mGenerator, no recording needed
+ * - To use a real recording instead: ffmpeg -i video.mp4 -pix_fmt yuv420p output.y4m
  */
 public class _06_CameraInjection {
     private static final Logger logger = Logger.getLogger(_06_CameraInjection.class.getName());
-    private static Playwright playwright;
+    private static BrowserPool browserPool;
 
     @BeforeSuite
     public void setup() {
-        playwright = Playwright.create();
-    }
-
-    @AfterSuite
-    public void teardown() {
-        if (playwright != null) {
-            playwright.close();
-        }
+        browserPool = PlaywrightRegistry.browserPool();   // Shared with the other suites on this thread
     }
 
     // ========================================
@@ -39,60 +38,47 @@ public class _06_CameraInjection {
     public void test_01_CameraWithoutFile() {
         logger.info("📌 TEST 1: Camera Capture with Actual Camera");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false));  // Show browser UI
 
-        // Note: Permissions are set at context level (not browser level)
-        // This allows different contexts to have different permissions
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setPermissions(Arrays.asList("camera", "microphone")));
-
-        Page page = context.newPage();
+        try {
+            // Note: Permissions are set at context level (not browser level)
+            // This allows different contexts to have different permissions
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setPermissions(Arrays.asList("camera", "microphone")));
 
-        page.navigate("https://webcamtoy.com/");
-        page.waitForTimeout(2000);
+            Page page = context.newPage();
 
-        page.locator("#button-init").click();
+            page.navigate("https://webcamtoy.com/");
 
-        page.waitForTimeout(5000);
+            Waits.visible(page.locator("#button-init")).click();
 
-        page.locator("#button-capture").click();
-        page.waitForTimeout(2000);
+            Waits.mediaStreamReady(page);                    // Camera is streaming frames
 
-        page.locator("#button-save").waitFor(new Locator.WaitForOptions()
-                .setState(WaitForSelectorState.VISIBLE)
-                .setTimeout(5000));
+            Waits.enabled(page.locator("#button-capture")).click();
 
-        page.waitForTimeout(2000);
+            Waits.visible(page.locator("#button-save"));
 
-        Path tempDir = Paths.get("src/test/resources/TestData/temp");
-        if (!tempDir.toFile().exists()) {
-            tempDir.toFile().mkdirs();
-            logger.info("📁 Created temp directory: " + tempDir);
-        }
+            Path downloadPath = DownloadStorage.shared().newFile("selfie", ".png");
 
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String fileName = "selfie_" + timestamp + ".png";
-        Path downloadPath = tempDir.resolve(fileName);
+            Download download = Waits.downloadStarted(page, () -> {
+                page.locator("#button-save").click();
+            });
 
-        Download download = page.waitForDownload(() -> {
-            page.locator("#button-save").click();
-        });
+            download.saveAs(downloadPath);
+            logger.info("💾 Photo saved to: " + downloadPath);
 
-        download.saveAs(downloadPath);
-        logger.info("💾 Photo saved to: " + downloadPath);
+            if (downloadPath.toFile().exists() && downloadPath.toFile().length() > 0) {
+                logger.info("✅ Photo saved successfully!");
+                logger.info("📊 File size: " + downloadPath.toFile().length() + " bytes");
+            } else {
+                logger.warning("⚠️ Photo file not found or empty!");
+            }
 
-        if (downloadPath.toFile().exists() && downloadPath.toFile().length() > 0) {
-            logger.info("✅ Photo saved successfully!");
-            logger.info("📊 File size: " + downloadPath.toFile().length() + " bytes");
-        } else {
-            logger.warning("⚠️ Photo file not found or empty!");
+            context.close();
+        } finally {
+            browserPool.release(browser);
         }
-
-        page.waitForTimeout(2000);
-
-        context.close();
-        browser.close();
     }
 
     // ========================================
@@ -102,12 +88,18 @@ public class _06_CameraInjection {
     public void test_02_CameraWithFile() {
         logger.info("📌 TEST 2: Camera Injection WITH Video File");
 
-        Path videoPath = Paths.get("src/test/resources/TestData/DemoCameraFile.y4m").toAbsolutePath();
+        int marker = (int) (Thread.currentThread().threadId() * 0x9E37 & 0xFFFF); // Per worker thread, spread over the grid
+        Y4mGenerator clip = new Y4mGenerator(Y4mGenerator.Pattern.MARKER)  // Synthetic clip, generated in memory
+                .size(640, 480)
+                .fps(30)
+                .seconds(2)
+                .marker(marker);
+        Path videoPath = clip.writeTemp();
         logger.info("📂 Video file: " + videoPath);
 
         // Launch browser with Y4M file as camera input
         // Note: --use-fake-device-for-media-stream is REQUIRED to inject video file
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setHeadless(false)
                 .setArgs(Arrays.asList(
                         "--use-fake-device-for-media-stream",            // Required: Enable fake camera
@@ -115,54 +107,31 @@ public class _06_CameraInjection {
                         "--use-file-for-fake-video-capture=" + videoPath // Feed Y4M file to camera
                 )));
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setPermissions(Arrays.asList("camera", "microphone")));
-
-        Page page = context.newPage();
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setPermissions(Arrays.asList("camera", "microphone")));
 
-        page.navigate("https://webcamtoy.com/");
-        page.waitForTimeout(2000);
+            Page page = context.newPage();
 
-        page.locator("#button-init").click();
+            page.navigate("https://webcamtoy.com/");
 
-        page.waitForTimeout(5000);
+            Waits.visible(page.locator("#button-init")).click();
 
-        page.locator("#button-capture").click();
-        page.waitForTimeout(2000);
+            Waits.mediaStreamReady(page);                    // Camera is streaming frames
 
-        page.locator("#button-save").waitFor(new Locator.WaitForOptions()
-                .setState(WaitForSelectorState.VISIBLE)
-                .setTimeout(5000));
+            // Sample the live <video> in the page - no capture, no PNG on disk
+            FrameSample frame = MediaProbe.sample(page);
+            logger.info("🎞️ Sampled frame: " + frame);
 
-        page.waitForTimeout(2000);
+            Assert.assertFalse(frame.isUniform(), "Camera feed should not be blank");
+            Assert.assertTrue(frame.matches(clip.expectedHash(), 4),
+                    String.format("Feed should show marker %04x: hash %016x vs expected %016x",
+                            marker, frame.averageHash(), clip.expectedHash()));
+            logger.info("✅ Injected marker stream " + Integer.toHexString(marker) + " is on camera");
 
-        Path tempDir = Paths.get("src/test/resources/TestData/temp");
-        if (!tempDir.toFile().exists()) {
-            tempDir.toFile().mkdirs();
-            logger.info("📁 Created temp directory: " + tempDir);
+            context.close();
+        } finally {
+            browserPool.release(browser);
         }
-
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String fileName = "camera_feed_" + timestamp + ".png";
-        Path downloadPath = tempDir.resolve(fileName);
-
-        Download download = page.waitForDownload(() -> {
-            page.locator("#button-save").click();
-        });
-
-        download.saveAs(downloadPath);
-        logger.info("💾 Photo saved to: " + downloadPath);
-
-        if (downloadPath.toFile().exists() && downloadPath.toFile().length() > 0) {
-            logger.info("✅ Photo from Y4M video saved successfully!");
-            logger.info("📊 File size: " + downloadPath.toFile().length() + " bytes");
-        } else {
-            logger.warning("⚠️ Photo file not found or empty!");
-        }
-
-        page.waitForTimeout(2000);
-
-        context.close();
-        browser.close();
     }
 }
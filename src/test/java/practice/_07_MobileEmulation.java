@@ -1,8 +1,10 @@
 package practice;
 
 import com.microsoft.playwright.*;
+import framework.browser.BrowserPool;
+import framework.browser.PlaywrightRegistry;
+import framework.device.DeviceRegistry;
 import org.testng.Assert;
-import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
@@ -10,18 +12,11 @@ import java.util.logging.Logger;
 
 public class _07_MobileEmulation {
     private static final Logger logger = Logger.getLogger(_07_MobileEmulation.class.getName());
-    private static Playwright playwright;
+    private static BrowserPool browserPool;
 
     @BeforeSuite
     public void setup() {
-        playwright = Playwright.create();
-    }
-
-    @AfterSuite
-    public void teardown() {
-        if (playwright != null) {
-            playwright.close();
-        }
+        browserPool = PlaywrightRegistry.browserPool();   // Shared with the other suites on this thread
     }
 
     // ========================================
@@ -31,44 +26,41 @@ public class _07_MobileEmulation {
     public void test_01_iPhone14Pro() {
         logger.info("📌 TEST 1: iPhone 14 Pro Emulation");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false));
 
-        // iPhone 14 Pro specifications
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setViewportSize(390, 844)        // iPhone 14 Pro screen dimensions
-                .setDeviceScaleFactor(3)          // Super Retina XDR display (3x pixel ratio)
-                .setIsMobile(true)                // Enable mobile mode
-                .setHasTouch(true)                // Enable touch events
-                .setIgnoreHTTPSErrors(true)       // Ignore SSL certificate errors
-                .setUserAgent("Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.0 Mobile/15E148 Safari/604.1")
-        );
+        try {
+            // iPhone 14 Pro specifications: 390x844, 3x Super Retina XDR, mobile + touch, Safari UA
+            BrowserContext context = browser.newContext(DeviceRegistry.get("iPhone 14 Pro").contextOptions()
+                    .setIgnoreHTTPSErrors(true));     // Ignore SSL certificate errors
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        logger.info("📱 Device: iPhone 14 Pro");
-        logger.info("📐 Viewport: 390 x 844");
-        logger.info("🎨 Device Scale Factor: 3x (Super Retina XDR)");
+            logger.info("📱 Device: iPhone 14 Pro");
+            logger.info("📐 Viewport: 390 x 844");
+            logger.info("🎨 Device Scale Factor: 3x (Super Retina XDR)");
 
-        page.navigate("https://www.whatismybrowser.com/");
-        Assert.assertEquals(page.viewportSize().width, 390);
-        Assert.assertEquals(page.viewportSize().height, 844);
-        logger.info("✅ Viewport verified: 390x844");
+            page.navigate("https://www.whatismybrowser.com/");
+            Assert.assertEquals(page.viewportSize().width, 390);
+            Assert.assertEquals(page.viewportSize().height, 844);
+            logger.info("✅ Viewport verified: 390x844");
 
-        // Verify device detection
-        String deviceText = page.locator(".string-medium").first().textContent();
-        Assert.assertTrue(deviceText.contains("Apple iPhone"), "Expected 'Apple iPhone' but got: " + deviceText);
-        logger.info("✅ Device detected as: " + deviceText);
-        page.waitForTimeout(2000);
+            // Verify device detection
+            String deviceText = page.locator(".string-medium").first().textContent();
+            Assert.assertTrue(deviceText.contains("Apple iPhone"), "Expected 'Apple iPhone' but got: " + deviceText);
+            logger.info("✅ Device detected as: " + deviceText);
+            page.waitForTimeout(2000);
 
-        page.navigate("https://www.useragentstring.com/");
-        page.waitForTimeout(3000);
+            page.navigate("https://www.useragentstring.com/");
+            page.waitForTimeout(3000);
 
-        logger.info("✅ iPhone 14 Pro emulation active");
+            logger.info("✅ iPhone 14 Pro emulation active");
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -78,43 +70,42 @@ public class _07_MobileEmulation {
     public void test_02_Android_SamsungGalaxy() {
         logger.info("📌 TEST 2: Samsung Galaxy S23 Ultra Emulation");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false));
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setViewportSize(360, 800)        // Samsung Galaxy typical dimensions
-                .setDeviceScaleFactor(3)          // High DPI display (3x pixel ratio)
-                .setIsMobile(true)                // Enable mobile mode
-                .setHasTouch(true)                // Enable touch events
-                .setIgnoreHTTPSErrors(true)       // Ignore SSL certificate errors
-                .setUserAgent("Mozilla/5.0 (Linux; Android 14; SM-S918B) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Mobile Safari/537.36"));
+        try {
+            // Galaxy S23 Ultra specifications: 360x800, 3x AMOLED, mobile + touch, Chrome Android UA
+            BrowserContext context = browser.newContext(DeviceRegistry.get("Galaxy S23 Ultra").contextOptions()
+                    .setIgnoreHTTPSErrors(true));     // Ignore SSL certificate errors
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        logger.info("📱 Device: Samsung Galaxy S23 Ultra");
-        logger.info("📐 Viewport: 360 x 800");
-        logger.info("🎨 Device Scale Factor: 3x (AMOLED)");
+            logger.info("📱 Device: Samsung Galaxy S23 Ultra");
+            logger.info("📐 Viewport: 360 x 800");
+            logger.info("🎨 Device Scale Factor: 3x (AMOLED)");
 
-        page.navigate("https://www.whatismybrowser.com/");
+            page.navigate("https://www.whatismybrowser.com/");
 
-        Assert.assertEquals(page.viewportSize().width, 360);
-        Assert.assertEquals(page.viewportSize().height, 800);
-        logger.info("✅ Viewport verified: 360x800");
+            Assert.assertEquals(page.viewportSize().width, 360);
+            Assert.assertEquals(page.viewportSize().height, 800);
+            logger.info("✅ Viewport verified: 360x800");
 
-        String deviceText = page.locator(".string-medium").first().textContent();
-        Assert.assertTrue(deviceText.contains("Samsung"), "Expected 'Samsung' but got: " + deviceText);
-        logger.info("✅ Device detected as: " + deviceText);
+            String deviceText = page.locator(".string-medium").first().textContent();
+            Assert.assertTrue(deviceText.contains("Samsung"), "Expected 'Samsung' but got: " + deviceText);
+            logger.info("✅ Device detected as: " + deviceText);
 
-        page.waitForTimeout(2000);
+            page.waitForTimeout(2000);
 
-        page.navigate("https://www.useragentstring.com/");
-        page.waitForTimeout(3000);
+            page.navigate("https://www.useragentstring.com/");
+            page.waitForTimeout(3000);
 
-        logger.info("✅ Samsung Galaxy emulation active");
+            logger.info("✅ Samsung Galaxy emulation active");
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 }
 
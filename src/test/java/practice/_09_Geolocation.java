@@ -2,28 +2,27 @@ package practice;
 
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.Geolocation;
+import framework.browser.BrowserPool;
+import framework.browser.PlaywrightRegistry;
+import framework.matrix.CellResult;
+import framework.matrix.MatrixRunner;
+import framework.parallel.ParallelExecutor;
+import framework.server.Fixtures;
 import org.testng.Assert;
-import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 
 public class _09_Geolocation {
     private static final Logger logger = Logger.getLogger(_09_Geolocation.class.getName());
-    private static Playwright playwright;
+    private static BrowserPool browserPool;
 
     @BeforeSuite
     public void setup() {
-        playwright = Playwright.create();
-    }
-
-    @AfterSuite
-    public void teardown() {
-        if (playwright != null) {
-            playwright.close();
-        }
+        browserPool = PlaywrightRegistry.browserPool();   // Shared with the other suites on this thread
     }
 
     // ========================================
@@ -33,37 +32,40 @@ public class _09_Geolocation {
     public void test_01_Paris_France() {
         logger.info("📌 TEST 1: Paris, France Geolocation");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false));
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setGeolocation(new Geolocation(48.8566, 2.3522))  // Paris coordinates
-                .setPermissions(Arrays.asList("geolocation"))      // Grant geolocation permission
-                .setIgnoreHTTPSErrors(true));
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setGeolocation(new Geolocation(48.8566, 2.3522))  // Paris coordinates
+                    .setPermissions(Arrays.asList("geolocation"))      // Grant geolocation permission
+                    .setIgnoreHTTPSErrors(true));
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        logger.info("📍 Location: Paris, France");
-        logger.info("🌐 Latitude: 48.8566, Longitude: 2.3522");
+            logger.info("📍 Location: Paris, France");
+            logger.info("🌐 Latitude: 48.8566, Longitude: 2.3522");
 
-        page.navigate("https://browserleaks.com/geo");
-        page.waitForTimeout(5000);
+            page.navigate("https://browserleaks.com/geo");
+            page.waitForTimeout(5000);
 
-        String latitude = page.locator("#latitude").getAttribute("data-raw");
-        String longitude = page.locator("#longitude").getAttribute("data-raw");
-        String location = page.locator("#geo-reverse .flag-text").textContent();
+            String latitude = page.locator("#latitude").getAttribute("data-raw");
+            String longitude = page.locator("#longitude").getAttribute("data-raw");
+            String location = page.locator("#geo-reverse .flag-text").textContent();
 
-        logger.info("✅ Detected Latitude: " + latitude);
-        logger.info("✅ Detected Longitude: " + longitude);
-        logger.info("✅ Detected Location: " + location);
+            logger.info("✅ Detected Latitude: " + latitude);
+            logger.info("✅ Detected Longitude: " + longitude);
+            logger.info("✅ Detected Location: " + location);
 
-        Assert.assertTrue(latitude.contains("48.8"), "Expected Paris latitude but got: " + latitude);
-        Assert.assertTrue(longitude.contains("2.3"), "Expected Paris longitude but got: " + longitude);
-        Assert.assertTrue(location.contains("France"), "Expected France but got: " + location);
+            Assert.assertTrue(latitude.contains("48.8"), "Expected Paris latitude but got: " + latitude);
+            Assert.assertTrue(longitude.contains("2.3"), "Expected Paris longitude but got: " + longitude);
+            Assert.assertTrue(location.contains("France"), "Expected France but got: " + location);
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -73,37 +75,74 @@ public class _09_Geolocation {
     public void test_02_Mumbai_India() {
         logger.info("📌 TEST 2: Mumbai, India Geolocation");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false));
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setGeolocation(new Geolocation(19.0760, 72.8777))  // Mumbai coordinates
-                .setPermissions(Arrays.asList("geolocation"))        // Grant geolocation permission
-                .setIgnoreHTTPSErrors(true));
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setGeolocation(new Geolocation(19.0760, 72.8777))  // Mumbai coordinates
+                    .setPermissions(Arrays.asList("geolocation"))        // Grant geolocation permission
+                    .setIgnoreHTTPSErrors(true));
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        logger.info("📍 Location: Mumbai, India");
-        logger.info("🌐 Latitude: 19.0760, Longitude: 72.8777");
+            logger.info("📍 Location: Mumbai, India");
+            logger.info("🌐 Latitude: 19.0760, Longitude: 72.8777");
 
-        page.navigate("https://browserleaks.com/geo");
-        page.waitForTimeout(5000);
+            page.navigate("https://browserleaks.com/geo");
+            page.waitForTimeout(5000);
 
-        String latitude = page.locator("#latitude").getAttribute("data-raw");
-        String longitude = page.locator("#longitude").getAttribute("data-raw");
-        String location = page.locator("#geo-reverse .flag-text").textContent();
+            String latitude = page.locator("#latitude").getAttribute("data-raw");
+            String longitude = page.locator("#longitude").getAttribute("data-raw");
+            String location = page.locator("#geo-reverse .flag-text").textContent();
 
-        logger.info("✅ Detected Latitude: " + latitude);
-        logger.info("✅ Detected Longitude: " + longitude);
-        logger.info("✅ Detected Location: " + location);
+            logger.info("✅ Detected Latitude: " + latitude);
+            logger.info("✅ Detected Longitude: " + longitude);
+            logger.info("✅ Detected Location: " + location);
 
-        Assert.assertTrue(latitude.contains("19.0"), "Expected Mumbai latitude but got: " + latitude);
-        Assert.assertTrue(longitude.contains("72.8"), "Expected Mumbai longitude but got: " + longitude);
-        Assert.assertTrue(location.contains("India"), "Expected India but got: " + location);
+            Assert.assertTrue(latitude.contains("19.0"), "Expected Mumbai latitude but got: " + latitude);
+            Assert.assertTrue(longitude.contains("72.8"), "Expected Mumbai longitude but got: " + longitude);
+            Assert.assertTrue(location.contains("India"), "Expected India but got: " + location);
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
-}
 
+    // ========================================
+    // TEST 3: Device x Locale x Geolocation Matrix
+    // ========================================
+    @Test(priority = 3)
+    public void test_03_DeviceLocaleGeoMatrix() {
+        logger.info("📌 TEST 3: Device x Locale x Geolocation Matrix (2 x 2 x 2 cells on 2 browsers)");
+
+        List<CellResult> results = new MatrixRunner(2, ParallelExecutor.chromium(new BrowserType.LaunchOptions()
+                .setHeadless(false)))
+                .devices("iPhone 14 Pro", "Galaxy S23 Ultra")
+                .locale("fr-FR", "Europe/Paris")
+                .locale("hi-IN", "Asia/Kolkata")
+                .geolocation("Paris", 48.8566, 2.3522)
+                .geolocation("Mumbai", 19.0760, 72.8777)
+                .run((page, cell) -> {
+                    // Local page is a secure context, so navigator.geolocation works without the network
+                    page.navigate(Fixtures.url("https://example.com/"));
+
+                    Assert.assertEquals(page.evaluate("() => navigator.language"), cell.locale().locale());
+                    Assert.assertEquals(page.evaluate("() => Intl.DateTimeFormat().resolvedOptions().timeZone"),
+                            cell.locale().timezoneId());
+                    Assert.assertEquals(page.viewportSize().width, cell.device().viewportWidth());
+
+                    Number latitude = (Number) page.evaluate("() => new Promise((resolve, reject) =>"
+                            + " navigator.geolocation.getCurrentPosition(p => resolve(p.coords.latitude), reject))");
+                    Assert.assertEquals(latitude.doubleValue(), cell.geolocation().latitude(), 0.001);
+                });
+
+        results.forEach(result -> logger.info("📊 " + result));
+        for (CellResult result : results) {
+            Assert.assertTrue(result.passed(), result.toString());
+        }
+        logger.info("✅ All " + results.size() + " matrix cells passed");
+    }
+}
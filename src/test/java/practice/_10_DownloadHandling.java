@@ -1,34 +1,42 @@
 package practice;
 
 import com.microsoft.playwright.*;
+import framework.browser.BrowserPool;
+import framework.browser.PlaywrightRegistry;
+import framework.download.BulkDownloadHarvester;
+import framework.download.BulkDownloadReport;
+import framework.download.DownloadPipeline;
+import framework.download.DownloadResult;
+import framework.download.DownloadStorage;
+import framework.server.Fixtures;
+import framework.wait.Waits;
 import org.testng.Assert;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.logging.Logger;
 
 public class _10_DownloadHandling {
     private static final Logger logger = Logger.getLogger(_10_DownloadHandling.class.getName());
-    private static Playwright playwright;
-    private static final Path DOWNLOAD_DIR = Paths.get("src", "test", "resources", "TestData", "temp");
+    private static BrowserPool browserPool;
+    private static DownloadPipeline downloadPipeline;
+    private static final DownloadStorage storage = DownloadStorage.shared();
 
     @BeforeSuite
     public void setup() {
-        playwright = Playwright.create();
-        
-        if (!DOWNLOAD_DIR.toFile().exists()) {
-            DOWNLOAD_DIR.toFile().mkdirs();
-            logger.info("📁 Created download directory: " + DOWNLOAD_DIR);
-        }
+        browserPool = PlaywrightRegistry.browserPool();   // Shared with the other suites on this thread
+        downloadPipeline = new DownloadPipeline();
+        logger.info("📁 Downloads go to shards under: " + storage.root());
     }
 
     @AfterSuite
     public void teardown() {
-        if (playwright != null) {
-            playwright.close();
+        if (downloadPipeline != null) {
+            downloadPipeline.close();
         }
     }
 
@@ -39,32 +47,32 @@ public class _10_DownloadHandling {
     public void test_01_ContextLevelDownloadPath() {
         logger.info("📌 TEST 1: Download with Context-Level Path");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false));
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setAcceptDownloads(true));              // Enable downloads at context level
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setAcceptDownloads(true));              // Enable downloads at context level
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        page.navigate("https://the-internet.herokuapp.com/download");
-        page.waitForTimeout(2000);
+            page.navigate(Fixtures.url("https://the-internet.herokuapp.com/download"));
+            Locator link = Waits.visible(page.locator("a[href*='.txt']").first());
 
-        Download download = page.waitForDownload(() -> {
-            page.locator("a[href*='.txt']").first().click();
-        });
+            Download download = Waits.downloadStarted(page, link::click);
 
-        String filename = "context_" + System.currentTimeMillis() + ".txt";
-        Path downloadPath = DOWNLOAD_DIR.resolve(filename);
-        download.saveAs(downloadPath);
+            Path downloadPath = storage.newFile("context", ".txt");
+            DownloadResult result = downloadPipeline.save(download, downloadPath);
 
-        logger.info("💾 File downloaded to: " + downloadPath);
-        Assert.assertTrue(downloadPath.toFile().exists(), "Download file should exist");
-        logger.info("✅ File size: " + downloadPath.toFile().length() + " bytes");
+            logger.info("💾 File downloaded to: " + downloadPath);
+            Assert.assertTrue(downloadPath.toFile().exists(), "Download file should exist");
+            logger.info("✅ File size: " + result.size() + " bytes");
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -74,38 +82,39 @@ public class _10_DownloadHandling {
     public void test_02_BrowserLevelDownloadPath() {
         logger.info("📌 TEST 2: Download with Browser-Level Path (Auto-Save)");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false)
-                .setDownloadsPath(DOWNLOAD_DIR));       // Browser auto-saves downloads here
+                .setDownloadsPath(storage.shard()));    // Browser auto-saves downloads here
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setAcceptDownloads(true));
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setAcceptDownloads(true));
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        page.navigate("https://the-internet.herokuapp.com/download");
-        page.waitForTimeout(2000);
+            page.navigate(Fixtures.url("https://the-internet.herokuapp.com/download"));
+            Locator link = Waits.visible(page.locator("a[href*='.txt']").first());
 
-        Download download = page.waitForDownload(() -> {
-            page.locator("a[href*='.txt']").first().click();
-        });
+            Download download = Waits.downloadStarted(page, link::click);
 
-        // Get the path where browser automatically saved the file
-        Path autoSavedPath = download.path();
-        String originalFilename = download.suggestedFilename();
+            // Get the path where browser automatically saved the file
+            Path autoSavedPath = download.path();
+            String originalFilename = download.suggestedFilename();
 
-        logger.info("💾 File auto-saved to: " + autoSavedPath);
-        logger.info("📄 Original filename: " + originalFilename);
+            logger.info("💾 File auto-saved to: " + autoSavedPath);
+            logger.info("📄 Original filename: " + originalFilename);
         
-        // Verify file exists at the browser-level download path
-        Assert.assertTrue(autoSavedPath.toFile().exists(), "Download file should exist");
-        Assert.assertTrue(autoSavedPath.toString().contains("temp"), 
-                "File should be in temp directory");
-        logger.info("✅ File size: " + autoSavedPath.toFile().length() + " bytes");
-
-        context.close();
-        browser.close();
+            // Verify file exists at the browser-level download path
+            Assert.assertTrue(autoSavedPath.toFile().exists(), "Download file should exist");
+            Assert.assertTrue(autoSavedPath.toString().contains("temp"), 
+                    "File should be in temp directory");
+            logger.info("✅ File size: " + autoSavedPath.toFile().length() + " bytes");
+
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
@@ -115,83 +124,123 @@ public class _10_DownloadHandling {
     public void test_03_DownloadPNG_BrowserLevel() {
         logger.info("📌 TEST 3: Download PNG with Browser-Level Path");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false)
-                .setDownloadsPath(DOWNLOAD_DIR));       // Browser auto-saves PNG here
+                .setDownloadsPath(storage.shard()));    // Browser auto-saves PNG here
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setAcceptDownloads(true));
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setAcceptDownloads(true));
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        page.navigate("https://the-internet.herokuapp.com/download");
-        page.waitForTimeout(2000);
+            page.navigate(Fixtures.url("https://the-internet.herokuapp.com/download"));
+            Locator link = Waits.visible(page.locator("a[href$='.png']").first());
 
-        Download download = page.waitForDownload(() -> {
-            page.locator("a[href$='.png']").first().click();
-        });
+            Download download = Waits.downloadStarted(page, link::click);
 
-        Path autoSavedPath = download.path();
-        String originalFilename = download.suggestedFilename();
+            Path autoSavedPath = download.path();
+            String originalFilename = download.suggestedFilename();
 
-        logger.info("💾 PNG auto-saved to: " + autoSavedPath);
-        logger.info("📄 Filename: " + originalFilename);
+            logger.info("💾 PNG auto-saved to: " + autoSavedPath);
+            logger.info("📄 Filename: " + originalFilename);
         
-        Assert.assertTrue(autoSavedPath.toFile().exists(), "Download file should exist");
-        Assert.assertTrue(originalFilename.endsWith(".png"), "Should be a PNG file");
-        logger.info("✅ File size: " + autoSavedPath.toFile().length() + " bytes");
+            Assert.assertTrue(autoSavedPath.toFile().exists(), "Download file should exist");
+            Assert.assertTrue(originalFilename.endsWith(".png"), "Should be a PNG file");
+            logger.info("✅ File size: " + autoSavedPath.toFile().length() + " bytes");
 
-        context.close();
-        browser.close();
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 
     // ========================================
-    // TEST 4: Download with saveAs (Copy Behavior)
+    // TEST 4: Download through the Pipeline (Move, not Copy)
     // ========================================
     @Test(priority = 4)
-    public void test_04_DownloadWithSaveAs() {
-        logger.info("📌 TEST 4: Download with saveAs (Copy Behavior)");
+    public void test_04_DownloadWithSaveAs() throws IOException {
+        logger.info("📌 TEST 4: Download through the Pipeline (Move, not Copy)");
 
-        Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
                 .setChannel("chrome")
                 .setHeadless(false));
 
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setAcceptDownloads(true));
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setAcceptDownloads(true));
 
-        Page page = context.newPage();
+            Page page = context.newPage();
 
-        page.navigate("https://the-internet.herokuapp.com/download");
-        page.waitForTimeout(2000);
+            page.navigate(Fixtures.url("https://the-internet.herokuapp.com/download"));
+            Locator link = Waits.visible(page.locator("a[href*='.txt']").first());
 
-        Download download = page.waitForDownload(() -> {
-            page.locator("a[href*='.txt']").first().click();
-        });
+            Download download = Waits.downloadStarted(page, link::click);
 
-        Path tempPath = download.path();
-        logger.info("📥 File initially downloaded to temp: " + tempPath);
+            Path tempPath = download.path();
+            logger.info("📥 File initially downloaded to temp: " + tempPath);
 
-        String filename = "saved_" + System.currentTimeMillis() + ".txt";
-        Path finalPath = DOWNLOAD_DIR.resolve(filename);
-        download.saveAs(finalPath);
+            Path finalPath = storage.newFile("saved", ".txt");
+            boolean sameFileSystem = Files.getFileStore(tempPath).equals(Files.getFileStore(finalPath.getParent()));
+            DownloadResult result = downloadPipeline.save(download, finalPath);   // size + SHA-256 in one pass
 
-        logger.info("📦 File saved to: " + finalPath);
-        logger.info("ℹ️  Note: saveAs() creates a COPY - temp file remains");
-        
-        Assert.assertTrue(finalPath.toFile().exists(), "File should exist at final location");
-        Assert.assertTrue(tempPath.toFile().exists(), "Temp file still exists (copy, not move)");
-        logger.info("✅ Final file size: " + finalPath.toFile().length() + " bytes");
-        logger.info("✅ Temp file size: " + tempPath.toFile().length() + " bytes");
-
-        logger.info("🧹 Closing context to trigger auto-cleanup...");
-        context.close();
-        browser.close();
-
-        logger.info("🔍 Verifying temp file cleanup...");
-        Assert.assertFalse(tempPath.toFile().exists(), "Temp file should be deleted after context closes");
-        Assert.assertTrue(finalPath.toFile().exists(), "Final file should still exist");
-        logger.info("✅ Temp file auto-cleaned by Playwright");
-        logger.info("✅ Final file persists at: " + finalPath);
+            logger.info("📦 " + result);
+            logger.info("ℹ️  Note: saveAs() would COPY - the pipeline moves or streams once");
+
+            Assert.assertTrue(finalPath.toFile().exists(), "File should exist at final location");
+            Assert.assertTrue(result.size() > 0, "Downloaded file should not be empty");
+            Assert.assertEquals(result.sha256().length(), 64, "SHA-256 should be 64 hex characters");
+            Assert.assertNull(result.pathFailure(), "Local browser: the temp file should have been used");
+            Assert.assertEquals(result.moved(), sameFileSystem, "Moved exactly when temp and target share a filesystem");
+            Assert.assertEquals(tempPath.toFile().exists(), !sameFileSystem, "Temp file was moved, not copied");
+            logger.info("✅ Final file size: " + result.size() + " bytes");
+
+            logger.info("🧹 Closing context to trigger auto-cleanup...");
+            context.close();
+
+            logger.info("🔍 Verifying temp file cleanup...");
+            Assert.assertFalse(tempPath.toFile().exists(), "Temp file should be deleted after context closes");
+            Assert.assertTrue(finalPath.toFile().exists(), "Final file should still exist");
+            logger.info("✅ Temp file auto-cleaned by Playwright");
+            logger.info("✅ Final file persists at: " + finalPath);
+        } finally {
+            browserPool.release(browser);
+        }
+    }
+
+    // ========================================
+    // TEST 5: Bulk Download of Every Listed File
+    // ========================================
+    @Test(priority = 5)
+    public void test_05_BulkDownloadAllLinks() {
+        logger.info("📌 TEST 5: Bulk Download of Every Listed File");
+
+        Browser browser = browserPool.acquire(new BrowserType.LaunchOptions()
+                .setChannel("chrome")
+                .setHeadless(false));
+
+        try {
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setAcceptDownloads(true));
+
+            Path batchDir = storage.newDirectory("bulk");
+            BulkDownloadReport report = new BulkDownloadHarvester(downloadPipeline, 3, 4)   // 3 pages, 4 downloads in flight
+                    .harvest(context, Fixtures.url("https://the-internet.herokuapp.com/download"),
+                            "a[href*='download/']", batchDir);
+
+            logger.info("📦 " + report);
+            Assert.assertTrue(report.links() > 0, "Listing should contain download links");
+            Assert.assertTrue(report.complete(), "Every link should download: " + report.failures());
+            Assert.assertTrue(report.empty().isEmpty(), "No downloaded file should be empty: " + report.empty());
+            report.results().forEach(result ->
+                    Assert.assertTrue(result.path().toFile().exists(), "Missing " + result.path()));
+            logger.info("✅ " + report.results().size() + " files verified, " + report.duplicates().size()
+                    + " duplicate contents");
+
+            context.close();
+        } finally {
+            browserPool.release(browser);
+        }
     }
 }